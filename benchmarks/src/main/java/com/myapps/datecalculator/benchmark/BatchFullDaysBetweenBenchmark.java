@@ -0,0 +1,78 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch full-days-between methods of {@link DateUtils} against calling {@link
+ * DateUtils#getFullDaysBetween(Date, Date)} per pair. Scores are per pair.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchFullDaysBetweenBenchmark {
+
+  private static final int PAIRS = 1 << 16;
+
+  private final Date[] firstDates = new Date[PAIRS];
+  private final Date[] secondDates = new Date[PAIRS];
+  private final int[] firstEpochDays = new int[PAIRS];
+  private final int[] secondEpochDays = new int[PAIRS];
+  private final int[] firstPackedDates = new int[PAIRS];
+  private final int[] secondPackedDates = new int[PAIRS];
+  private final int[] fullDaysBetween = new int[PAIRS];
+
+  @Setup
+  public void setUp() {
+    // Fixed seed, so every fork computes the same pairs
+    final Random random = new Random(PAIRS);
+    for (int i = 0; i < PAIRS; i++) {
+      firstDates[i] = Date.ofEpochDay(random.nextInt(401402));
+      secondDates[i] = Date.ofEpochDay(random.nextInt(401402));
+      firstEpochDays[i] = firstDates[i].getEpochDay();
+      secondEpochDays[i] = secondDates[i].getEpochDay();
+      firstPackedDates[i] = Integer.parseInt(firstDates[i].toString().replace("-", ""));
+      secondPackedDates[i] = Integer.parseInt(secondDates[i].toString().replace("-", ""));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAIRS)
+  public int[] scalar() {
+    for (int i = 0; i < PAIRS; i++) {
+      fullDaysBetween[i] = DateUtils.getFullDaysBetween(firstDates[i], secondDates[i]);
+    }
+    return fullDaysBetween;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAIRS)
+  public int[] epochDays() {
+    DateUtils.getFullDaysBetween(firstEpochDays, secondEpochDays, fullDaysBetween);
+    return fullDaysBetween;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAIRS)
+  public int[] packedDates() {
+    DateUtils.getFullDaysBetweenPackedDates(firstPackedDates, secondPackedDates, fullDaysBetween);
+    return fullDaysBetween;
+  }
+}
@@ -0,0 +1,39 @@
+package com.myapps.datecalculator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suites once per thread count with the GC profiler enabled, writing the results
+ * of each run as JSON so they can be diffed between releases.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar com.myapps.datecalculator.benchmark.BenchmarkRunner
+ * [include regex] [thread counts, comma separated] [output directory]}. Defaults to every
+ * benchmark, 1 and all available processors, and the current directory.
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException {
+    final String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName();
+    final String threadCounts =
+        args.length > 1 ? args[1] : "1," + Runtime.getRuntime().availableProcessors();
+    final String outputDirectory = args.length > 2 ? args[2] : ".";
+
+    for (final String threadCount : threadCounts.split(",")) {
+      final int threads = Integer.parseInt(threadCount.trim());
+      final Options options =
+          new OptionsBuilder()
+              .include(include)
+              .threads(threads)
+              .addProfiler(GCProfiler.class)
+              .resultFormat(ResultFormatType.JSON)
+              .result(outputDirectory + "/jmh-result-" + threads + "-threads.json")
+              .build();
+      new Runner(options).run();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.BusinessDayCalculator;
+import com.myapps.datecalculator.util.HolidayCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BusinessDayCalculator} against counting business days one day at a time, over
+ * spans of up to the given number of years and a calendar of ten holidays a year over the whole
+ * supported range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BusinessDaysBenchmark {
+
+  private static final int PAIRS = 1024;
+  private static final int HOLIDAYS_PER_YEAR = 10;
+
+  @Param({"1", "10", "30"})
+  private int spanYears;
+
+  private BusinessDayCalculator calculator;
+  private HolidayCalendar calendar;
+  private int[] firstEpochDays;
+  private int[] secondEpochDays;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    final int[] holidays = new int[HOLIDAYS_PER_YEAR * 1099];
+    for (int i = 0; i < holidays.length; i++) {
+      holidays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+    }
+    calendar = HolidayCalendar.ofEpochDays(holidays);
+    calculator = new BusinessDayCalculator(calendar);
+
+    final int span = spanYears * 365;
+    firstEpochDays = new int[PAIRS];
+    secondEpochDays = new int[PAIRS];
+    for (int i = 0; i < PAIRS; i++) {
+      firstEpochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE - span);
+      secondEpochDays[i] = firstEpochDays[i] + random.nextInt(span) + 1;
+    }
+  }
+
+  @Benchmark
+  public int calculator() {
+    final int i = next();
+    return calculator.getFullBusinessDaysBetween(firstEpochDays[i], secondEpochDays[i]);
+  }
+
+  @Benchmark
+  public int dayByDay() {
+    final int i = next();
+    int businessDays = 0;
+    for (int day = firstEpochDays[i] + 1; day < secondEpochDays[i]; day++) {
+      // 1901-01-01 was a Tuesday, so Saturday is 4 and Sunday is 5
+      final int dayOfWeek = day % 7;
+      if (dayOfWeek != 4 && dayOfWeek != 5 && !calendar.isHoliday(day)) {
+        businessDays++;
+      }
+    }
+    return businessDays;
+  }
+
+  private int next() {
+    return index++ & (PAIRS - 1);
+  }
+}
@@ -0,0 +1,101 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the day of the week, ISO week and quarter computed by {@link Date} and {@link
+ * DateUtils} against converting each date to a {@link LocalDate} to read them. The batch
+ * benchmarks fill arrays for 1024 dates per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CalendarFieldsBenchmark {
+
+  private static final int DATES = 1024;
+
+  // Epoch day of 1901-01-01 in java.time, which counts from 1970-01-01
+  private static final long EPOCH_OFFSET = LocalDate.of(1901, 1, 1).toEpochDay();
+
+  private Date[] dates;
+  private int[] epochDays;
+  private int[] daysOfWeek;
+  private int[] isoWeeks;
+  private int[] quarters;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    dates = new Date[DATES];
+    epochDays = new int[DATES];
+    for (int i = 0; i < DATES; i++) {
+      epochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      dates[i] = Date.ofEpochDay(epochDays[i]);
+    }
+    daysOfWeek = new int[DATES];
+    isoWeeks = new int[DATES];
+    quarters = new int[DATES];
+  }
+
+  @Benchmark
+  public void date(final Blackhole blackhole) {
+    final Date date = dates[next()];
+    blackhole.consume(date.getDayOfWeek());
+    blackhole.consume(date.getIsoWeek());
+    blackhole.consume(date.getQuarter());
+  }
+
+  @Benchmark
+  public void localDate(final Blackhole blackhole) {
+    final Date date = dates[next()];
+    final LocalDate localDate =
+        LocalDate.of(date.getYear(), date.getMonth().getValue(), date.getDay());
+    blackhole.consume(localDate.getDayOfWeek());
+    blackhole.consume(localDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    blackhole.consume(localDate.get(IsoFields.QUARTER_OF_YEAR));
+  }
+
+  @Benchmark
+  public int[] batch() {
+    DateUtils.getDaysOfWeek(epochDays, daysOfWeek);
+    DateUtils.getIsoWeeks(epochDays, isoWeeks);
+    DateUtils.getQuarters(epochDays, quarters);
+    return quarters;
+  }
+
+  @Benchmark
+  public int[] batchLocalDate() {
+    for (int i = 0; i < DATES; i++) {
+      final LocalDate localDate = LocalDate.ofEpochDay(epochDays[i] + EPOCH_OFFSET);
+      daysOfWeek[i] = localDate.getDayOfWeek().getValue();
+      isoWeeks[i] = localDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+      quarters[i] = localDate.get(IsoFields.QUARTER_OF_YEAR);
+    }
+    return quarters;
+  }
+
+  private int next() {
+    return index++ & (DATES - 1);
+  }
+}
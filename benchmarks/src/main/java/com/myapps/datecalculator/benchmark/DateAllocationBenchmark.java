@@ -0,0 +1,68 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-call allocation of {@code new Date(String)} against the canonical {@link
+ * Date#parse(CharSequence)} and {@link Date#ofEpochDay(int)} factories. Run it with {@code -prof gc}
+ * and compare the {@code gc.alloc.rate.norm} figures, see {@link DateFootprintReport} for the table
+ * side of the trade-off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateAllocationBenchmark {
+
+  private static final int DATES = 1024;
+
+  private final String[] dates = new String[DATES];
+  private final int[] epochDays = new int[DATES];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    // Spread the dates over the whole supported range
+    for (int i = 0; i < DATES; i++) {
+      final Date date = Date.ofEpochDay(i * 391);
+      dates[i] = date.toString();
+      epochDays[i] = date.getEpochDay();
+    }
+  }
+
+  @Benchmark
+  public Date newDate() throws InvalidDateFormatException, InvalidDateException {
+    return new Date(dates[next()]);
+  }
+
+  @Benchmark
+  public Date parse() throws InvalidDateFormatException, InvalidDateException {
+    return Date.parse(dates[next()]);
+  }
+
+  @Benchmark
+  public Date ofEpochDay() {
+    return Date.ofEpochDay(epochDays[next()]);
+  }
+
+  private int next() {
+    index = (index + 1) & (DATES - 1);
+    return index;
+  }
+}
@@ -0,0 +1,46 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Measures {@link Date#compareTo(Date)} over random pairs of dates of the supported range. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateCompareBenchmark {
+
+  private static final int DATES = 1024;
+
+  private final Date[] dates = new Date[DATES];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    // Fixed seed, so every fork compares the same pairs
+    final Random random = new Random(DATES);
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = Date.ofEpochDay(random.nextInt(401402));
+    }
+  }
+
+  @Benchmark
+  public int compareTo() {
+    index = (index + 1) & (DATES - 1);
+    return dates[index].compareTo(dates[(index + 1) & (DATES - 1)]);
+  }
+}
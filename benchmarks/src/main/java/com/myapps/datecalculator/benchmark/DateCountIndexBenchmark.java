@@ -0,0 +1,86 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.column.DateColumn;
+import com.myapps.datecalculator.column.DateCountIndex;
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares counting the stored dates that are more than 30 full days before a date by computing
+ * the full days between every stored date and that date, against querying a {@link
+ * DateCountIndex} built over 1M dates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateCountIndexBenchmark {
+
+  private static final int DATES = 1024;
+  private static final int STORED_DATES = 1 << 20;
+  private static final int FULL_DAYS = 30;
+
+  private Date[] dates;
+  private int[] storedEpochDays;
+  private DateColumn column;
+  private DateCountIndex countIndex;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    dates = new Date[DATES];
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE));
+    }
+    storedEpochDays = new int[STORED_DATES];
+    for (int i = 0; i < STORED_DATES; i++) {
+      storedEpochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+    }
+    column = DateColumn.ofEpochDays(storedEpochDays);
+    countIndex = DateCountIndex.of(column);
+  }
+
+  @Benchmark
+  public long scan() {
+    final int epochDay = dates[next()].getEpochDay();
+    long count = 0;
+    for (final int storedEpochDay : storedEpochDays) {
+      if (storedEpochDay < epochDay
+          && DateUtils.getFullDaysBetween(storedEpochDay, epochDay) > FULL_DAYS) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long index() {
+    return countIndex.countFullDaysBefore(dates[next()], FULL_DAYS + 1);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public DateCountIndex build() {
+    return DateCountIndex.of(column);
+  }
+
+  private int next() {
+    return index++ & (DATES - 1);
+  }
+}
@@ -0,0 +1,38 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Prints the memory footprint of the canonical date table against the allocation of a fresh {@link
+ * Date} per call.
+ *
+ * <p>Run it with {@code java -cp benchmarks/target/benchmarks.jar
+ * com.myapps.datecalculator.benchmark.DateFootprintReport}.
+ */
+public class DateFootprintReport {
+
+  public static void main(String[] args) throws Exception {
+    final long dateSize = ClassLayout.parseClass(Date.class).instanceSize();
+
+    // Populate the whole table and measure every canonical instance plus the table references
+    final int days = Date.parse("2999-12-31").getEpochDay() + 1;
+    final Date[] dates = new Date[days];
+    for (int epochDay = 0; epochDay < days; epochDay++) {
+      dates[epochDay] = Date.ofEpochDay(epochDay);
+    }
+    final long referencesSize = VM.current().sizeOf(dates);
+    final long tableSize = GraphLayout.parseInstance((Object) dates).totalSize();
+
+    System.out.printf("Date instance size:          %,d bytes%n", dateSize);
+    System.out.printf("Days in supported range:     %,d%n", days);
+    System.out.printf("Table references:            %,d bytes%n", referencesSize);
+    System.out.printf("Table, fully populated:      %,d bytes%n", tableSize);
+    System.out.printf("Allocation per new Date:     %,d bytes%n", dateSize);
+    System.out.printf("Allocation per Date.parse:   0 bytes once the date is in the table%n");
+    System.out.printf(
+        "Break-even:                  %,d new Date calls%n", (tableSize + dateSize - 1) / dateSize);
+  }
+}
@@ -0,0 +1,74 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code String.format} based {@link Date#toString()} against {@link
+ * DateFormatter} writing into a new string and into a reused byte buffer, and against the string
+ * cached by {@link Date#toString()} for canonical dates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateFormatBenchmark {
+
+  private static final int DATES = 1024;
+
+  private Date[] dates;
+  private byte[] buffer;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    dates = new Date[DATES];
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE));
+    }
+    buffer = new byte[DateFormatter.DATE_LENGTH];
+  }
+
+  @Benchmark
+  public String stringFormat() {
+    final Date date = dates[next()];
+    return String.format(
+        "%04d-%02d-%02d", date.getYear(), date.getMonth().getValue(), date.getDay());
+  }
+
+  @Benchmark
+  public String formatToString() {
+    return DateFormatter.format(dates[next()]);
+  }
+
+  @Benchmark
+  public byte[] formatToBytes() {
+    DateFormatter.format(dates[next()], buffer, 0);
+    return buffer;
+  }
+
+  @Benchmark
+  public String cachedToString() {
+    return dates[next()].toString();
+  }
+
+  private int next() {
+    return index++ & (DATES - 1);
+  }
+}
@@ -0,0 +1,78 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateParser;
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code new Date(String)} and the non-throwing {@link DateParser#parse(CharSequence)} over
+ * inputs mixing valid dates with a given percentage of invalid ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateParseBenchmark {
+
+  private static final int DATES = 1024;
+
+  // One invalid input per rejection reason
+  private static final String[] INVALID_DATES = {
+    "15-02-1945", "1900-02-15", "1945-13-15", "1945-02-00", "1945-02-29"
+  };
+
+  @Param({"0", "5", "50"})
+  private int invalidPercentage;
+
+  private final String[] dates = new String[DATES];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    // Fixed seed, so every fork parses the same mix
+    final Random random = new Random(DATES);
+    for (int i = 0; i < DATES; i++) {
+      if (random.nextInt(100) < invalidPercentage) {
+        dates[i] = INVALID_DATES[random.nextInt(INVALID_DATES.length)];
+      } else {
+        dates[i] = Date.ofEpochDay(random.nextInt(401402)).toString();
+      }
+    }
+  }
+
+  @Benchmark
+  public Object newDate() {
+    try {
+      return new Date(dates[next()]);
+    } catch (final InvalidDateFormatException | InvalidDateException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int parse() {
+    return DateParser.parse(dates[next()]);
+  }
+
+  private int next() {
+    index = (index + 1) & (DATES - 1);
+    return index;
+  }
+}
@@ -0,0 +1,90 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.column.DateSet;
+import com.myapps.datecalculator.date.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deduplicating and looking up 1024 dates per operation in a {@link DateSet} against a
+ * {@link HashSet} of {@link Date} objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DateSetBenchmark {
+
+  private static final int DATES = 1024;
+
+  private Date[] dates;
+  private DateSet dateSet;
+  private Set<Date> hashSet;
+
+  @Setup
+  public void setUp() {
+    // Draw from a few years so that the batch holds duplicates
+    final Random random = new Random(42);
+    dates = new Date[DATES];
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = Date.ofEpochDay(36500 + random.nextInt(3 * 365));
+    }
+    dateSet = new DateSet();
+    hashSet = new HashSet<>();
+    for (final Date date : dates) {
+      dateSet.add(date);
+      hashSet.add(date);
+    }
+  }
+
+  @Benchmark
+  public int addDateSet() {
+    final DateSet set = new DateSet();
+    for (final Date date : dates) {
+      set.add(date);
+    }
+    return set.cardinality();
+  }
+
+  @Benchmark
+  public int addHashSet() {
+    final Set<Date> set = new HashSet<>();
+    for (final Date date : dates) {
+      set.add(date);
+    }
+    return set.size();
+  }
+
+  @Benchmark
+  public int containsDateSet() {
+    int count = 0;
+    for (final Date date : dates) {
+      count += dateSet.contains(date.plusDays(1)) ? 1 : 0;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int containsHashSet() {
+    int count = 0;
+    for (final Date date : dates) {
+      count += hashSet.contains(date.plusDays(1)) ? 1 : 0;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,87 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateSorts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting random dates of the supported range with {@link DateSorts} against {@link
+ * Arrays#sort(Object[])} and {@link Arrays#parallelSort(Comparable[])}. Each operation sorts a
+ * fresh copy of the same shuffled array, the copy is included in every score. Sizes of 100M and
+ * more need a heap of several GB, for e.g. {@code -jvmArgsAppend -Xmx16g -p size=500000000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DateSortBenchmark {
+
+  @Param({"1000000", "10000000"})
+  private int size;
+
+  private Date[] dates;
+  private Date[] copy;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    dates = new Date[size];
+    for (int i = 0; i < size; i++) {
+      dates[i] = Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE));
+    }
+    copy = new Date[size];
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Date[] arraysSort() {
+    System.arraycopy(dates, 0, copy, 0, size);
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public Date[] arraysParallelSort() {
+    System.arraycopy(dates, 0, copy, 0, size);
+    Arrays.parallelSort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public Date[] radixSort() {
+    System.arraycopy(dates, 0, copy, 0, size);
+    DateSorts.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public Date[] parallelRadixSort() {
+    System.arraycopy(dates, 0, copy, 0, size);
+    DateSorts.parallelSort(copy, pool);
+    return copy;
+  }
+}
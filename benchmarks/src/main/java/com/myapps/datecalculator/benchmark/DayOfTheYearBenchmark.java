@@ -0,0 +1,93 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table driven {@link Date#getDayOfTheYear()} and {@link Date.Month#fromInt(int)}
+ * against the previous implementations, which cloned and sorted {@code Month.values()} per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DayOfTheYearBenchmark {
+
+  private static final int DATES = 1024;
+
+  private final Date[] dates = new Date[DATES];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    // Spread the dates over the whole supported range
+    for (int i = 0; i < DATES; i++) {
+      dates[i] = Date.ofEpochDay(i * 391);
+    }
+  }
+
+  @Benchmark
+  public int getDayOfTheYear() {
+    return dates[next()].getDayOfTheYear();
+  }
+
+  @Benchmark
+  public int legacyGetDayOfTheYear() {
+    return legacyGetDayOfTheYear(dates[next()]);
+  }
+
+  @Benchmark
+  public Date.Month fromInt() {
+    return Date.Month.fromInt(dates[next()].getMonth().getValue());
+  }
+
+  @Benchmark
+  public Date.Month legacyFromInt() {
+    return legacyFromInt(dates[next()].getMonth().getValue());
+  }
+
+  private int next() {
+    index = (index + 1) & (DATES - 1);
+    return index;
+  }
+
+  private static int legacyGetDayOfTheYear(final Date date) {
+    int dayOfTheYear = date.getDay();
+
+    Date.Month[] months = Date.Month.values();
+    Arrays.sort(months, Comparator.comparing(Date.Month::getValue));
+
+    for (final Date.Month month : months) {
+      if (month != date.getMonth()) {
+        dayOfTheYear += month.getDays(date.isLeapYear());
+        continue;
+      }
+      break;
+    }
+    return dayOfTheYear;
+  }
+
+  private static Date.Month legacyFromInt(final int month) {
+    for (final Date.Month monthValue : Date.Month.values()) {
+      if (month == monthValue.getValue()) {
+        return monthValue;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,50 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import com.myapps.datecalculator.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DateUtils#getFullDaysBetween(Date, Date)} across span lengths. The score is
+ * expected to stay flat from a two day span up to the whole supported range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FullDaysBetweenBenchmark {
+
+  @Param({"1945-02-15/1945-02-17", "1945-02-15/1955-02-15", "1901-01-01/2999-12-31"})
+  private String span;
+
+  private Date olderDate;
+  private Date newerDate;
+
+  @Setup
+  public void setUp() throws InvalidDateFormatException, InvalidDateException {
+    final String[] dates = span.split("/");
+    olderDate = new Date(dates[0]);
+    newerDate = new Date(dates[1]);
+  }
+
+  @Benchmark
+  public int getFullDaysBetween() {
+    return DateUtils.getFullDaysBetween(olderDate, newerDate);
+  }
+}
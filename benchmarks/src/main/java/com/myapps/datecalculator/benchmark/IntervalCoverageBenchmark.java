@@ -0,0 +1,94 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.column.DateColumn;
+import com.myapps.datecalculator.column.IntervalCoverage;
+import com.myapps.datecalculator.date.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the total full days 1M stored intervals overlap a query interval by computing the
+ * overlap with each stored interval, against an {@link IntervalCoverage}, and times building the
+ * coverage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntervalCoverageBenchmark {
+
+  private static final int QUERIES = 1024;
+  private static final int INTERVALS = 1 << 20;
+
+  private Date[] queryStarts;
+  private Date[] queryEnds;
+  private DateColumn starts;
+  private DateColumn ends;
+  private Date[] startDates;
+  private Date[] endDates;
+  private IntervalCoverage coverage;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    // Bookings of up to a month over twenty years, queried by quarters
+    final Random random = new Random(42);
+    queryStarts = new Date[QUERIES];
+    queryEnds = new Date[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      queryStarts[i] = Date.ofEpochDay(36_500 + random.nextInt(7_300));
+      queryEnds[i] = queryStarts[i].plusDays(91);
+    }
+    starts = new DateColumn(INTERVALS);
+    ends = new DateColumn(INTERVALS);
+    for (int i = 0; i < INTERVALS; i++) {
+      final int start = 36_500 + random.nextInt(7_300);
+      starts.addEpochDay(start);
+      ends.addEpochDay(start + random.nextInt(31));
+    }
+    startDates = starts.toDates();
+    endDates = ends.toDates();
+    coverage = IntervalCoverage.of(starts, ends);
+  }
+
+  @Benchmark
+  public long nestedLoop() {
+    final int query = next();
+    long overlap = 0;
+    for (int i = 0; i < INTERVALS; i++) {
+      overlap +=
+          IntervalCoverage.getOverlapFullDays(
+              queryStarts[query], queryEnds[query], startDates[i], endDates[i]);
+    }
+    return overlap;
+  }
+
+  @Benchmark
+  public long coverage() {
+    final int query = next();
+    return coverage.getTotalOverlapFullDays(queryStarts[query], queryEnds[query]);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int build() {
+    return IntervalCoverage.of(starts, ends).getPeakOccupancy();
+  }
+
+  private int next() {
+    return index++ & (QUERIES - 1);
+  }
+}
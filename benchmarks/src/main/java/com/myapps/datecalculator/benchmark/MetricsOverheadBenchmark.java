@@ -0,0 +1,79 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateParser;
+import com.myapps.datecalculator.metrics.DateMetrics;
+import com.myapps.datecalculator.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link DateMetrics} on parsing and full days between calculations. The
+ * disabled cases are expected to score the same as the uninstrumented code, the enabled cases run
+ * in forks started with metrics turned on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+
+  private static final int DATES = 1024;
+  private static final String ENABLED = "-D" + DateMetrics.ENABLED_PROPERTY + "=true";
+
+  private String[] dates;
+  private int[] epochDays;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    dates = new String[DATES];
+    epochDays = new int[DATES];
+    for (int i = 0; i < DATES; i++) {
+      epochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      dates[i] = Date.ofEpochDay(epochDays[i]).toString();
+    }
+  }
+
+  @Benchmark
+  public int parseDisabled() {
+    return DateParser.parse(dates[next()]);
+  }
+
+  @Benchmark
+  @Fork(value = 2, jvmArgsAppend = ENABLED)
+  public int parseEnabled() {
+    return DateParser.parse(dates[next()]);
+  }
+
+  @Benchmark
+  public int fullDaysBetweenDisabled() {
+    final int i = next();
+    return DateUtils.getFullDaysBetween(epochDays[i], epochDays[(i + 1) & (DATES - 1)]);
+  }
+
+  @Benchmark
+  @Fork(value = 2, jvmArgsAppend = ENABLED)
+  public int fullDaysBetweenEnabled() {
+    final int i = next();
+    return DateUtils.getFullDaysBetween(epochDays[i], epochDays[(i + 1) & (DATES - 1)]);
+  }
+
+  private int next() {
+    return index++ & (DATES - 1);
+  }
+}
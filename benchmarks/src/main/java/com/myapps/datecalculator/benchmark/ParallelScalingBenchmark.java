@@ -0,0 +1,113 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.io.ParallelDatePairProcessor;
+import com.myapps.datecalculator.io.ProcessingSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link ParallelDatePairProcessor} for 1 to N threads, over a
+ * generated file of date pair records and over arrays of epoch days. Each operation processes the
+ * whole input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmark {
+
+  @Param({"1", "2", "4", "8", "16", "32"})
+  private int parallelism;
+
+  @Param({"10000000"})
+  private int records;
+
+  private ForkJoinPool pool;
+  private Path input;
+  private int[] firstEpochDays;
+  private int[] secondEpochDays;
+  private int[] fullDaysBetween;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    pool = new ForkJoinPool(parallelism);
+    input = Files.createTempFile("pairs", ".csv");
+    firstEpochDays = new int[records];
+    secondEpochDays = new int[records];
+    fullDaysBetween = new int[records];
+
+    // Fixed seed, so every parallelism processes the same records
+    final Random random = new Random(records);
+    try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.US_ASCII)) {
+      for (int i = 0; i < records; i++) {
+        firstEpochDays[i] = random.nextInt(401402);
+        secondEpochDays[i] = random.nextInt(401402);
+        writer.write(Date.ofEpochDay(firstEpochDays[i]).toString());
+        writer.write(',');
+        writer.write(Date.ofEpochDay(secondEpochDays[i]).toString());
+        writer.write('\n');
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    pool.shutdown();
+    Files.deleteIfExists(input);
+  }
+
+  @Benchmark
+  public ProcessingSummary file() throws IOException {
+    return ParallelDatePairProcessor.process(input, new DiscardingChannel(), pool);
+  }
+
+  @Benchmark
+  public int[] arrays() {
+    ParallelDatePairProcessor.getFullDaysBetween(
+        firstEpochDays, secondEpochDays, fullDaysBetween, pool);
+    return fullDaysBetween;
+  }
+
+  /** Drops everything written to it, so output I/O does not blur the scaling. */
+  private static final class DiscardingChannel implements WritableByteChannel {
+    @Override
+    public int write(final ByteBuffer source) {
+      final int written = source.remaining();
+      source.position(source.limit());
+      return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,156 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.server.DateCalculatorServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A closed-loop load test of the {@code GET /fullDays} endpoint of {@link DateCalculatorServer}.
+ * Each client keeps one request in flight and sends the next as soon as the previous answer
+ * arrives, so the reported latency includes queueing on the server. Prints requests per second and
+ * the p50, p99 and maximum latencies.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar com.myapps.datecalculator.benchmark.ServerLoadTest
+ * [concurrent clients] [seconds] [port]}. Defaults to 64 clients for 10 seconds against an
+ * in-process server, a port targets an already running server instead.
+ */
+public class ServerLoadTest {
+
+  // Requests are recorded after the warm up only
+  private static final long WARM_UP_SECONDS = 2;
+
+  public static void main(String[] args) throws Exception {
+    final int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+    final long seconds = args.length > 1 ? Long.parseLong(args[1]) : 10;
+    // The in-process server is the first use of the JDK's HTTP server in this JVM
+    if (System.getProperty(DateCalculatorServer.NO_DELAY_PROPERTY) == null) {
+      System.setProperty(DateCalculatorServer.NO_DELAY_PROPERTY, Boolean.TRUE.toString());
+    }
+    final DateCalculatorServer server = args.length > 2 ? null : DateCalculatorServer.start(0);
+    final int port = server == null ? Integer.parseInt(args[2]) : server.getPort();
+
+    final HttpClient client = HttpClient.newHttpClient();
+    final URI[] uris = createUris(port);
+
+    final long warmUpEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARM_UP_SECONDS);
+    final long end = warmUpEnd + TimeUnit.SECONDS.toNanos(seconds);
+
+    final Client[] workers = new Client[clients];
+    for (int i = 0; i < clients; i++) {
+      workers[i] = new Client(client, uris, i, warmUpEnd, end);
+      workers[i].start();
+    }
+
+    long[] latencies = new long[0];
+    int errors = 0;
+    for (final Client worker : workers) {
+      worker.join();
+      final long[] recorded = Arrays.copyOf(worker.latencies, worker.count);
+      final int offset = latencies.length;
+      latencies = Arrays.copyOf(latencies, offset + recorded.length);
+      System.arraycopy(recorded, 0, latencies, offset, recorded.length);
+      errors += worker.errors;
+    }
+
+    if (server != null) {
+      server.close();
+    }
+
+    Arrays.sort(latencies);
+    System.out.printf(
+        "%d clients, %d requests in %d s: %.0f requests/sec, %d errors%n",
+        clients, latencies.length, seconds, latencies.length / (double) seconds, errors);
+    System.out.printf(
+        "Latency p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+        toMillis(percentile(latencies, 0.50)),
+        toMillis(percentile(latencies, 0.99)),
+        toMillis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+  }
+
+  private static URI[] createUris(final int port) {
+    // A ring of random pairs, so the server does not answer the same request over and over
+    final Random random = new Random(42);
+    final URI[] uris = new URI[1024];
+    for (int i = 0; i < uris.length; i++) {
+      uris[i] =
+          URI.create(
+              "http://localhost:"
+                  + port
+                  + "/fullDays?from="
+                  + Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE))
+                  + "&to="
+                  + Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE)));
+    }
+    return uris;
+  }
+
+  private static long percentile(final long[] sortedLatencies, final double percentile) {
+    if (sortedLatencies.length == 0) {
+      return 0;
+    }
+    return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1];
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static class Client extends Thread {
+    private final HttpClient client;
+    private final URI[] uris;
+    private final long warmUpEnd;
+    private final long end;
+    private int next;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    Client(HttpClient client, URI[] uris, int index, long warmUpEnd, long end) {
+      super("load-test-client-" + index);
+      this.client = client;
+      this.uris = uris;
+      this.next = index;
+      this.warmUpEnd = warmUpEnd;
+      this.end = end;
+    }
+
+    @Override
+    public void run() {
+      long now;
+      while ((now = System.nanoTime()) < end) {
+        final HttpRequest request =
+            HttpRequest.newBuilder(uris[next++ & (uris.length - 1)]).GET().build();
+        try {
+          final CompletableFuture<HttpResponse<String>> response =
+              client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+          final int status = response.get().statusCode();
+          final long latency = System.nanoTime() - now;
+          if (now >= warmUpEnd) {
+            if (status != 200) {
+              errors++;
+            }
+            record(latency);
+          }
+        } catch (final Exception e) {
+          errors++;
+        }
+      }
+    }
+
+    private void record(final long latency) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latency;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.myapps.datecalculator.benchmark;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.stream.FullDaysBatch;
+import com.myapps.datecalculator.stream.FullDaysBetweenProcessor;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-process throughput test of {@link FullDaysBetweenProcessor}. A publisher submits date pair
+ * records as fast as the processor takes them, and a subscriber consumes the result batches a few
+ * at a time. Prints the records per second, and the largest number of records waiting on the
+ * processor, which stays within its buffers however long the test runs.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar
+ * com.myapps.datecalculator.benchmark.StreamingThroughputTest [seconds] [batch size] [buffered
+ * batches]}. Defaults to 10 seconds with the default batching of the processor.
+ */
+public class StreamingThroughputTest {
+
+  // Batches the subscriber asks for at once
+  private static final int SUBSCRIBER_DEMAND = 4;
+
+  public static void main(String[] args) throws Exception {
+    final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 10;
+    final int batchSize =
+        args.length > 1 ? Integer.parseInt(args[1]) : FullDaysBetweenProcessor.DEFAULT_BATCH_SIZE;
+    final int bufferedBatches =
+        args.length > 2
+            ? Integer.parseInt(args[2])
+            : FullDaysBetweenProcessor.DEFAULT_MAX_BUFFERED_BATCHES;
+
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+    final FullDaysBetweenProcessor processor =
+        new FullDaysBetweenProcessor(pool, batchSize, bufferedBatches);
+    final Results results = new Results();
+    processor.subscribe(results);
+
+    final String[] records = createRecords();
+    final SubmissionPublisher<CharSequence> upstream =
+        new SubmissionPublisher<>(pool, batchSize);
+    upstream.subscribe(processor);
+
+    final long start = System.nanoTime();
+    final long end = start + TimeUnit.SECONDS.toNanos(seconds);
+    long submitted = 0;
+    int maxLag = 0;
+    while (System.nanoTime() < end) {
+      // Check the clock and the lag once per round of the ring
+      for (final String record : records) {
+        // Blocks while the processor is behind by a full buffer
+        upstream.submit(record);
+      }
+      submitted += records.length;
+      maxLag = Math.max(maxLag, upstream.estimateMaximumLag());
+    }
+    upstream.close();
+    results.completion.await();
+    final double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+    System.out.printf(
+        "%d records in %.1f s: %.0f records/sec, %d results%n",
+        submitted, elapsedSeconds, submitted / elapsedSeconds, results.count.sum());
+    System.out.printf(
+        "Batches of %d, %d buffered: at most %d records waiting on the processor%n",
+        batchSize, bufferedBatches, maxLag);
+  }
+
+  private static String[] createRecords() {
+    // A ring of random pairs, so the processor does not parse the same record over and over
+    final Random random = new Random(42);
+    final String[] records = new String[1024];
+    for (int i = 0; i < records.length; i++) {
+      records[i] =
+          Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE))
+              + ","
+              + Date.ofEpochDay(random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE));
+    }
+    return records;
+  }
+
+  private static class Results implements Flow.Subscriber<FullDaysBatch> {
+    private final LongAdder count = new LongAdder();
+    private final CountDownLatch completion = new CountDownLatch(1);
+    private Flow.Subscription subscription;
+    private int outstanding;
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      outstanding = SUBSCRIBER_DEMAND;
+      subscription.request(SUBSCRIBER_DEMAND);
+    }
+
+    @Override
+    public void onNext(final FullDaysBatch batch) {
+      count.add(batch.getFullDaysBetween().length);
+      if (--outstanding == 0) {
+        outstanding = SUBSCRIBER_DEMAND;
+        subscription.request(SUBSCRIBER_DEMAND);
+      }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      throwable.printStackTrace();
+      completion.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      completion.countDown();
+    }
+  }
+}
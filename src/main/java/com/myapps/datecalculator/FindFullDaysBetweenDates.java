@@ -3,8 +3,20 @@ package com.myapps.datecalculator;
 import com.myapps.datecalculator.date.Date;
 import com.myapps.datecalculator.exception.InvalidDateException;
 import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import com.myapps.datecalculator.io.DatePairCsvProcessor;
+import com.myapps.datecalculator.io.ParallelDatePairProcessor;
+import com.myapps.datecalculator.io.ProcessingSummary;
+import com.myapps.datecalculator.server.DateCalculatorServer;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import static com.myapps.datecalculator.constant.Constant.*;
 import static com.myapps.datecalculator.util.DateUtils.getFullDaysBetween;
@@ -12,11 +24,26 @@ import static com.myapps.datecalculator.util.DateUtils.getFullDaysBetween;
 /**
  * The main application class that takes two dates in yyyy-MM-dd format as user inputs and shows the
  * number of full days between them.
+ *
+ * <p>When started with {@code --input} and/or {@code --output}, it runs in bulk mode instead. Date
+ * pairs are streamed from the input file, or standard input, and the full days between each pair
+ * are written to the output file, or standard output.
+ *
+ * <p>When started with {@code --port}, it serves the full days between dates over HTTP instead.
  */
 public class FindFullDaysBetweenDates {
   private static final Scanner SCANNER = new Scanner(System.in);
 
   public static void main(String[] args) {
+    if (args.length > 0 && PORT_OPTION.equals(args[0])) {
+      runServerMode(args);
+      return;
+    }
+    if (args.length > 0) {
+      runBulkMode(args);
+      return;
+    }
+
     System.out.printf(">FindFullDaysBetweenDates%n%n");
 
     while (true) {
@@ -36,6 +63,94 @@ public class FindFullDaysBetweenDates {
     }
   }
 
+  private static void runBulkMode(final String[] args) {
+    String input = STANDARD_STREAM;
+    String output = STANDARD_STREAM;
+    int parallelism = 1;
+
+    // Read options, each of them followed by its value
+    for (int i = 0; i < args.length; i += 2) {
+      if (i + 1 == args.length) {
+        exitWithUsage();
+      }
+      if (INPUT_OPTION.equals(args[i])) {
+        input = args[i + 1];
+      } else if (OUTPUT_OPTION.equals(args[i])) {
+        output = args[i + 1];
+      } else if (PARALLELISM_OPTION.equals(args[i]) && args[i + 1].matches("[1-9][0-9]*")) {
+        parallelism = Integer.parseInt(args[i + 1]);
+      } else {
+        exitWithUsage();
+      }
+    }
+
+    try (WritableByteChannel outputChannel = openOutput(output)) {
+      final ProcessingSummary summary;
+
+      // Files are memory mapped, and split between threads if asked for, standard input is
+      // streamed
+      if (STANDARD_STREAM.equals(input)) {
+        summary = DatePairCsvProcessor.process(Channels.newChannel(System.in), outputChannel);
+      } else if (parallelism > 1) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+          summary = ParallelDatePairProcessor.process(Paths.get(input), outputChannel, pool);
+        } finally {
+          pool.shutdown();
+        }
+      } else {
+        summary = DatePairCsvProcessor.process(Paths.get(input), outputChannel);
+      }
+
+      // Report on standard error, standard output may be carrying the results
+      System.err.printf(
+          "Processed %d rows in %d ms (%.0f rows/sec), %d rows rejected%n",
+          summary.getRows(),
+          TimeUnit.NANOSECONDS.toMillis(summary.getElapsedNanos()),
+          summary.getRowsPerSecond(),
+          summary.getRejectedRows());
+    } catch (final IOException e) {
+      System.err.println(e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private static void runServerMode(final String[] args) {
+    if (args.length != 2 || !args[1].matches("[0-9]{1,5}")) {
+      exitWithUsage();
+    }
+
+    // Set before the JDK's HTTP server is first used, unless given on the command line
+    if (System.getProperty(DateCalculatorServer.NO_DELAY_PROPERTY) == null) {
+      System.setProperty(DateCalculatorServer.NO_DELAY_PROPERTY, Boolean.TRUE.toString());
+    }
+
+    try {
+      final DateCalculatorServer server = DateCalculatorServer.start(Integer.parseInt(args[1]));
+      Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+      System.err.printf("Listening on port %d%n", server.getPort());
+    } catch (final IOException e) {
+      System.err.println(e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private static WritableByteChannel openOutput(final String output) throws IOException {
+    if (STANDARD_STREAM.equals(output)) {
+      return Channels.newChannel(System.out);
+    }
+    return FileChannel.open(
+        Paths.get(output),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE);
+  }
+
+  private static void exitWithUsage() {
+    System.err.println(BULK_USAGE_ERROR);
+    System.exit(1);
+  }
+
   private static Date readDate(final int dateIndex) {
     while (true) {
       System.out.printf("Enter Date %s: ", dateIndex);
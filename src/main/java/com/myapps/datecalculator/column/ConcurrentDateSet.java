@@ -0,0 +1,113 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe variant of {@link DateSet} for concurrent ingestion. Dates are added with a compare
+ * and set on the word holding their bit, so any number of threads can add dates without locking.
+ *
+ * <p>Reads see every date added before they started, and possibly some added concurrently. Set
+ * operations are done on a {@link #snapshot()}.
+ */
+public class ConcurrentDateSet {
+
+  private final AtomicLongArray words = new AtomicLongArray(DateSet.WORDS);
+
+  /**
+   * Adds the given date to the set.
+   *
+   * @param date Date to add.
+   * @return True if the date was not in the set yet.
+   */
+  public boolean add(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    return addEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Adds the given date, given as days since 1901-01-01, to the set.
+   *
+   * @param epochDay Date to add as days since 1901-01-01.
+   * @return True if the date was not in the set yet.
+   * @throws IllegalArgumentException Thrown if the value is outside the supported range.
+   */
+  public boolean addEpochDay(final int epochDay) {
+    DateSet.checkEpochDay(epochDay);
+    final int index = epochDay >>> 6;
+    final long bit = 1L << epochDay;
+
+    // Retry until the word is updated by this thread, or another thread has set the bit
+    long word = this.words.get(index);
+    while ((word & bit) == 0) {
+      if (this.words.compareAndSet(index, word, word | bit)) {
+        return true;
+      }
+      word = this.words.get(index);
+    }
+    return false;
+  }
+
+  /**
+   * Returns true if the given date is in the set.
+   *
+   * @param date A date.
+   * @return True if the date is in the set.
+   */
+  public boolean contains(final Date date) {
+    return date != null && containsEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Returns true if the given date, given as days since 1901-01-01, is in the set.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return True if the date is in the set, false as well for values outside the supported range.
+   */
+  public boolean containsEpochDay(final int epochDay) {
+    return epochDay >= 0
+        && epochDay < Date.DAYS_IN_SUPPORTED_RANGE
+        && (this.words.get(epochDay >>> 6) & 1L << epochDay) != 0;
+  }
+
+  /**
+   * Returns the number of dates in the set.
+   *
+   * @return Number of dates in the set.
+   */
+  public int cardinality() {
+    return DateSet.count(this.words::get, 0, Date.DAYS_IN_SUPPORTED_RANGE);
+  }
+
+  /**
+   * Returns the number of dates of the set that fall in the given range.
+   *
+   * @param range A range of dates.
+   * @return Number of dates of the set in the range.
+   */
+  public int count(final DateRange range) {
+    // Perform null check
+    if (range == null) {
+      throw new IllegalArgumentException("Range must not be null!");
+    }
+    return DateSet.count(this.words::get, range.getStartEpochDay(), range.getEndEpochDay());
+  }
+
+  /**
+   * Returns a copy of the set, for iterating over it or combining it with other sets.
+   *
+   * @return A new set holding the dates of this set.
+   */
+  public DateSet snapshot() {
+    final long[] copy = new long[DateSet.WORDS];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = this.words.get(i);
+    }
+    return new DateSet(copy);
+  }
+}
@@ -0,0 +1,312 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable column of dates, each packed as its epoch day in an int array. That is 4 bytes per
+ * date instead of a pointer plus a {@link Date} object.
+ *
+ * <p>Sorting, min/max, range filtering and pairwise day differences work on the packed values and
+ * create no {@link Date} objects. Dates read back from the column are the canonical instances of
+ * {@link Date#ofEpochDay(int)}, so conversions in both directions are lossless.
+ */
+public class DateColumn {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] epochDays;
+  private int size;
+
+  /** Creates an empty column. */
+  public DateColumn() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty column with room for the given number of dates.
+   *
+   * @param capacity Number of dates the column can hold before growing.
+   */
+  public DateColumn(final int capacity) {
+    this.epochDays = new int[capacity];
+  }
+
+  private DateColumn(final int[] epochDays, final int size) {
+    this.epochDays = epochDays;
+    this.size = size;
+  }
+
+  /**
+   * Creates a column holding the given epoch days, in the given order.
+   *
+   * @param epochDays Dates as days since 1901-01-01.
+   * @return A new column holding a copy of the given values.
+   * @throws IllegalArgumentException Thrown if any of the values is outside the supported range.
+   */
+  public static DateColumn ofEpochDays(final int... epochDays) {
+    for (final int epochDay : epochDays) {
+      checkEpochDay(epochDay);
+    }
+    return new DateColumn(epochDays.clone(), epochDays.length);
+  }
+
+  /**
+   * Creates a column holding the given dates, in iteration order.
+   *
+   * @param dates Dates to add to the column.
+   * @return A new column holding the given dates.
+   */
+  public static DateColumn of(final Collection<Date> dates) {
+    final DateColumn column = new DateColumn(Math.max(dates.size(), 1));
+    for (final Date date : dates) {
+      column.add(date);
+    }
+    return column;
+  }
+
+  /**
+   * Appends the given date to the column.
+   *
+   * @param date Date to add.
+   */
+  public void add(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    append(date.getEpochDay());
+  }
+
+  /**
+   * Appends the given epoch day to the column.
+   *
+   * @param epochDay Date as days since 1901-01-01.
+   * @throws IllegalArgumentException Thrown if the value is outside the supported range.
+   */
+  public void addEpochDay(final int epochDay) {
+    checkEpochDay(epochDay);
+    append(epochDay);
+  }
+
+  /**
+   * Returns the number of dates in the column.
+   *
+   * @return Number of dates in the column.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the epoch day at the given index.
+   *
+   * @param index Index of the date within the column.
+   * @return Date at the index as days since 1901-01-01.
+   */
+  public int getEpochDay(final int index) {
+    checkIndex(index);
+    return this.epochDays[index];
+  }
+
+  /**
+   * Returns the date at the given index.
+   *
+   * @param index Index of the date within the column.
+   * @return The canonical date object at the index.
+   */
+  public Date get(final int index) {
+    return Date.ofEpochDay(getEpochDay(index));
+  }
+
+  /**
+   * Returns a copy of the epoch days of the column.
+   *
+   * @return Dates of the column as days since 1901-01-01, in column order.
+   */
+  public int[] toEpochDays() {
+    return Arrays.copyOf(this.epochDays, this.size);
+  }
+
+  /**
+   * Returns the dates of the column.
+   *
+   * @return The canonical date objects of the column, in column order.
+   */
+  public Date[] toDates() {
+    final Date[] dates = new Date[this.size];
+    for (int i = 0; i < this.size; i++) {
+      dates[i] = Date.ofEpochDay(this.epochDays[i]);
+    }
+    return dates;
+  }
+
+  /** Sorts the dates of the column from the oldest to the newest. */
+  public void sort() {
+    Arrays.sort(this.epochDays, 0, this.size);
+  }
+
+  /**
+   * Returns the oldest date of the column.
+   *
+   * @return The oldest date as days since 1901-01-01.
+   * @throws NoSuchElementException Thrown if the column is empty.
+   */
+  public int getMinEpochDay() {
+    checkNotEmpty();
+    int min = this.epochDays[0];
+    for (int i = 1; i < this.size; i++) {
+      min = Math.min(min, this.epochDays[i]);
+    }
+    return min;
+  }
+
+  /**
+   * Returns the newest date of the column.
+   *
+   * @return The newest date as days since 1901-01-01.
+   * @throws NoSuchElementException Thrown if the column is empty.
+   */
+  public int getMaxEpochDay() {
+    checkNotEmpty();
+    int max = this.epochDays[0];
+    for (int i = 1; i < this.size; i++) {
+      max = Math.max(max, this.epochDays[i]);
+    }
+    return max;
+  }
+
+  /**
+   * Returns the dates falling between the given dates, both inclusive, in column order.
+   *
+   * @param from Oldest date to keep.
+   * @param to Newest date to keep.
+   * @return A new column holding the matching dates.
+   */
+  public DateColumn filter(final Date from, final Date to) {
+    // Perform null check
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+    return filterEpochDays(from.getEpochDay(), to.getEpochDay());
+  }
+
+  /**
+   * Returns the dates falling between the given epoch days, both inclusive, in column order.
+   *
+   * @param fromEpochDay Oldest date to keep, as days since 1901-01-01.
+   * @param toEpochDay Newest date to keep, as days since 1901-01-01.
+   * @return A new column holding the matching dates.
+   */
+  public DateColumn filterEpochDays(final int fromEpochDay, final int toEpochDay) {
+    final int[] matches = new int[this.size];
+    int matchCount = 0;
+    for (int i = 0; i < this.size; i++) {
+      final int epochDay = this.epochDays[i];
+      if (epochDay >= fromEpochDay && epochDay <= toEpochDay) {
+        matches[matchCount++] = epochDay;
+      }
+    }
+    return new DateColumn(matches, matchCount);
+  }
+
+  /**
+   * Returns the full days between each date of this column and the date at the same index of the
+   * other column.
+   *
+   * @param other A column of the same size.
+   * @return Full days between each pair of dates, by index.
+   */
+  public int[] getFullDaysBetween(final DateColumn other) {
+    // Perform size check
+    if (other == null || other.size != this.size) {
+      throw new IllegalArgumentException("Columns must be of the same size!");
+    }
+
+    final int[] fullDaysBetween = new int[this.size];
+    for (int i = 0; i < this.size; i++) {
+      fullDaysBetween[i] = DateUtils.getFullDaysBetween(this.epochDays[i], other.epochDays[i]);
+    }
+    return fullDaysBetween;
+  }
+
+  /**
+   * Computes the ISO day of the week of every date of this column.
+   *
+   * @param daysOfWeek Receives the day of the week of each date, from 1 for Monday to 7 for Sunday,
+   *     by the same index.
+   */
+  public void getDaysOfWeek(final int[] daysOfWeek) {
+    checkResultArray(daysOfWeek);
+    for (int i = 0; i < this.size; i++) {
+      daysOfWeek[i] = DateUtils.getDayOfWeek(this.epochDays[i]);
+    }
+  }
+
+  /**
+   * Computes the ISO week of every date of this column.
+   *
+   * @param isoWeeks Receives the ISO week of each date, from 1 to 53, by the same index.
+   */
+  public void getIsoWeeks(final int[] isoWeeks) {
+    checkResultArray(isoWeeks);
+    for (int i = 0; i < this.size; i++) {
+      isoWeeks[i] = DateUtils.getIsoWeek(this.epochDays[i]);
+    }
+  }
+
+  /**
+   * Computes the quarter of every date of this column.
+   *
+   * @param quarters Receives the quarter of each date, from 1 to 4, by the same index.
+   */
+  public void getQuarters(final int[] quarters) {
+    checkResultArray(quarters);
+    for (int i = 0; i < this.size; i++) {
+      quarters[i] = DateUtils.getQuarter(this.epochDays[i]);
+    }
+  }
+
+  // Backing array, valid up to size, read in place by the indexes of this package
+  int[] getBackingArray() {
+    return this.epochDays;
+  }
+
+  private void checkResultArray(final int[] results) {
+    // Perform size check
+    if (results == null || results.length < this.size) {
+      throw new IllegalArgumentException("Result array must fit the column!");
+    }
+  }
+
+  private void append(final int epochDay) {
+    if (this.size == this.epochDays.length) {
+      this.epochDays = Arrays.copyOf(this.epochDays, Math.max(this.size * 2, DEFAULT_CAPACITY));
+    }
+    this.epochDays[this.size++] = epochDay;
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + index + " out of bounds for size " + this.size);
+    }
+  }
+
+  private void checkNotEmpty() {
+    if (this.size == 0) {
+      throw new NoSuchElementException("Column must not be empty!");
+    }
+  }
+
+  private static void checkEpochDay(final int epochDay) {
+    if (epochDay < 0 || epochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!");
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Counts of dates per day of the supported range, kept in a Fenwick tree so that range counts,
+ * full days before/after counts and percentiles take at most 19 steps whatever the number of
+ * dates indexed, instead of a full days between computation per date.
+ *
+ * <p>Full days are counted as by {@link DateUtils#getFullDaysBetween(Date, Date)}, the given date
+ * and the indexed dates being partial days. An index is about 3 MB, can be built in parallel from
+ * partitioned columns and takes dates incrementally afterwards. It is not thread safe.
+ */
+public class DateCountIndex {
+
+  // Fenwick tree, node i covers the counts of the days [i - lowestOneBit(i), i - 1]
+  private final long[] tree;
+  private long size;
+
+  /** Creates an empty index. */
+  public DateCountIndex() {
+    this.tree = new long[Date.DAYS_IN_SUPPORTED_RANGE + 1];
+  }
+
+  /**
+   * Creates an index of the dates of the given column.
+   *
+   * @param column Column of dates to index.
+   * @return A new index of the dates of the column.
+   */
+  public static DateCountIndex of(final DateColumn column) {
+    // Perform null check
+    if (column == null) {
+      throw new IllegalArgumentException("Column must not be null!");
+    }
+
+    final int[] counts = new int[Date.DAYS_IN_SUPPORTED_RANGE];
+    count(column.getBackingArray(), 0, column.size(), counts);
+    final DateCountIndex index = new DateCountIndex();
+    index.addCounts(counts);
+    index.build();
+    return index;
+  }
+
+  /**
+   * Creates an index of the dates of the given columns, counting them in parallel on the given
+   * pool. The dates are split into at most one chunk per thread of the pool, whatever the number of
+   * columns.
+   *
+   * @param partitions Columns of dates to index, for e.g. one per input file.
+   * @param pool Pool to count the dates on.
+   * @return A new index of the dates of all the columns.
+   */
+  public static DateCountIndex of(final List<DateColumn> partitions, final ForkJoinPool pool) {
+    // Perform null check
+    if (partitions == null || pool == null) {
+      throw new IllegalArgumentException("Partitions and pool must not be null!");
+    }
+
+    final int[][] epochDays = new int[partitions.size()][];
+    final int[] sizes = new int[partitions.size()];
+    for (int i = 0; i < sizes.length; i++) {
+      final DateColumn partition = partitions.get(i);
+      // Perform null check
+      if (partition == null) {
+        throw new IllegalArgumentException("Partition must not be null!");
+      }
+      epochDays[i] = partition.getBackingArray();
+      sizes[i] = partition.size();
+    }
+
+    final int[][] chunkCounts =
+        SliceReduction.reduce(
+            sizes,
+            Date.DAYS_IN_SUPPORTED_RANGE,
+            (partition, from, to, counts) -> count(epochDays[partition], from, to, counts),
+            pool);
+
+    // Chunks are merged in a long tree, so their counts add up without overflowing
+    final DateCountIndex index = new DateCountIndex();
+    for (final int[] counts : chunkCounts) {
+      index.addCounts(counts);
+    }
+    index.build();
+    return index;
+  }
+
+  /**
+   * Adds the given date to the index.
+   *
+   * @param date Date to add.
+   */
+  public void add(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    addEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Adds the given date, given as days since 1901-01-01, to the index.
+   *
+   * @param epochDay Date to add as days since 1901-01-01.
+   * @throws IllegalArgumentException Thrown if the value is outside the supported range.
+   */
+  public void addEpochDay(final int epochDay) {
+    DateSet.checkEpochDay(epochDay);
+    for (int node = epochDay + 1; node < this.tree.length; node += node & -node) {
+      this.tree[node]++;
+    }
+    this.size++;
+  }
+
+  /**
+   * Returns the number of dates in the index, counting repeated dates once per occurrence.
+   *
+   * @return Number of dates indexed.
+   */
+  public long size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the number of indexed dates that fall in the given range.
+   *
+   * @param range A range of dates.
+   * @return Number of indexed dates in the range.
+   */
+  public long count(final DateRange range) {
+    // Perform null check
+    if (range == null) {
+      throw new IllegalArgumentException("Range must not be null!");
+    }
+    return countEpochDays(range.getStartEpochDay(), range.getEndEpochDay());
+  }
+
+  /**
+   * Returns the number of indexed dates between the given epoch days. Bounds outside the supported
+   * range are clamped to it.
+   *
+   * @param fromEpochDay Oldest date to count, inclusive, as days since 1901-01-01.
+   * @param toEpochDay Newest date to count, exclusive, as days since 1901-01-01.
+   * @return Number of indexed dates in the range.
+   */
+  public long countEpochDays(final int fromEpochDay, final int toEpochDay) {
+    if (toEpochDay <= fromEpochDay) {
+      return 0;
+    }
+    return countBefore(toEpochDay) - countBefore(fromEpochDay);
+  }
+
+  /**
+   * Returns the number of indexed dates that are before the given date by at least the given
+   * number of full days.
+   *
+   * @param date A date.
+   * @param fullDays Minimum number of full days between the indexed dates and the given date.
+   * @return Number of indexed dates at least that many full days before the date.
+   */
+  public long countFullDaysBefore(final Date date, final int fullDays) {
+    checkFullDays(date, fullDays);
+    // A date d has date - d - 1 full days before the date
+    return countBefore((long) date.getEpochDay() - fullDays);
+  }
+
+  /**
+   * Returns the number of indexed dates that are after the given date by at least the given number
+   * of full days.
+   *
+   * @param date A date.
+   * @param fullDays Minimum number of full days between the given date and the indexed dates.
+   * @return Number of indexed dates at least that many full days after the date.
+   */
+  public long countFullDaysAfter(final Date date, final int fullDays) {
+    checkFullDays(date, fullDays);
+    // A date d has d - date - 1 full days after the date
+    return this.size - countBefore((long) date.getEpochDay() + fullDays + 1);
+  }
+
+  /**
+   * Returns the number of indexed dates that are within the given number of full days of the
+   * given date, on either side, including the date itself.
+   *
+   * @param date A date.
+   * @param fullDays Maximum number of full days between the indexed dates and the given date.
+   * @return Number of indexed dates at most that many full days away from the date.
+   */
+  public long countWithinFullDays(final Date date, final int fullDays) {
+    checkFullDays(date, fullDays);
+    return countBefore((long) date.getEpochDay() + fullDays + 2)
+        - countBefore((long) date.getEpochDay() - fullDays - 1);
+  }
+
+  /**
+   * Returns the indexed date below which the given percentage of the indexed dates fall, with the
+   * nearest rank method.
+   *
+   * @param percentile A percentage from 0 to 100, for e.g. 50 for the median.
+   * @return The canonical date object holding the percentile.
+   * @throws NoSuchElementException Thrown if the index is empty.
+   */
+  public Date getPercentile(final double percentile) {
+    // Perform range check
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0-100!");
+    }
+    if (this.size == 0) {
+      throw new NoSuchElementException("Index must not be empty!");
+    }
+
+    // Descend the tree for the last node whose prefix holds fewer dates than the rank
+    long remaining = Math.max((long) Math.ceil(percentile / 100 * this.size), 1);
+    int node = 0;
+    for (int step = Integer.highestOneBit(this.tree.length - 1); step > 0; step >>>= 1) {
+      if (node + step < this.tree.length && this.tree[node + step] < remaining) {
+        node += step;
+        remaining -= this.tree[node];
+      }
+    }
+    return Date.ofEpochDay(node);
+  }
+
+  private long countBefore(final long toEpochDay) {
+    long count = 0;
+    for (int node = (int) Math.min(Math.max(toEpochDay, 0), Date.DAYS_IN_SUPPORTED_RANGE);
+        node > 0;
+        node -= node & -node) {
+      count += this.tree[node];
+    }
+    return count;
+  }
+
+  private void addCounts(final int[] counts) {
+    for (int epochDay = 0; epochDay < counts.length; epochDay++) {
+      this.tree[epochDay + 1] += counts[epochDay];
+      this.size += counts[epochDay];
+    }
+  }
+
+  private void build() {
+    // Turn per day counts into the tree in place, each node passing its total on to its parent
+    for (int node = 1; node < this.tree.length; node++) {
+      final int parent = node + (node & -node);
+      if (parent < this.tree.length) {
+        this.tree[parent] += this.tree[node];
+      }
+    }
+  }
+
+  private static void checkFullDays(final Date date, final int fullDays) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    // Perform range check
+    if (fullDays < 0) {
+      throw new IllegalArgumentException("Full days must not be negative!");
+    }
+  }
+
+  private static void count(
+      final int[] epochDays, final int from, final int to, final int[] counts) {
+    for (int i = from; i < to; i++) {
+      // Columns only hold dates of the supported range
+      counts[epochDays[i]]++;
+    }
+  }
+}
@@ -0,0 +1,306 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+
+/**
+ * A set of dates backed by a bitmap of one bit per day of the supported range, about 50 KB
+ * whatever the number of dates. Adding and looking up a date is a bit operation on its epoch day,
+ * without hashing or boxing, and set operations run a word of 64 days at a time.
+ *
+ * <p>Dates are iterated in ascending order, as the canonical instances of {@link
+ * Date#ofEpochDay(int)}. A DateSet is not thread safe, see {@link ConcurrentDateSet} for
+ * concurrent ingestion.
+ */
+public class DateSet implements Iterable<Date> {
+
+  // Number of 64 day words covering the supported range
+  static final int WORDS = (Date.DAYS_IN_SUPPORTED_RANGE + Long.SIZE - 1) / Long.SIZE;
+
+  private final long[] words;
+
+  /** Creates an empty set. */
+  public DateSet() {
+    this(new long[WORDS]);
+  }
+
+  DateSet(final long[] words) {
+    this.words = words;
+  }
+
+  /**
+   * Creates a set holding the given epoch days.
+   *
+   * @param epochDays Dates as days since 1901-01-01, possibly repeated.
+   * @return A new set of the given dates.
+   * @throws IllegalArgumentException Thrown if any of the values is outside the supported range.
+   */
+  public static DateSet ofEpochDays(final int... epochDays) {
+    final DateSet set = new DateSet();
+    for (final int epochDay : epochDays) {
+      set.addEpochDay(epochDay);
+    }
+    return set;
+  }
+
+  /**
+   * Adds the given date to the set.
+   *
+   * @param date Date to add.
+   * @return True if the date was not in the set yet.
+   */
+  public boolean add(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    return addEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Adds the given date, given as days since 1901-01-01, to the set.
+   *
+   * @param epochDay Date to add as days since 1901-01-01.
+   * @return True if the date was not in the set yet.
+   * @throws IllegalArgumentException Thrown if the value is outside the supported range.
+   */
+  public boolean addEpochDay(final int epochDay) {
+    checkEpochDay(epochDay);
+    final long word = this.words[epochDay >>> 6];
+    final long bit = 1L << epochDay;
+    this.words[epochDay >>> 6] = word | bit;
+    return (word & bit) == 0;
+  }
+
+  /**
+   * Returns true if the given date is in the set.
+   *
+   * @param date A date.
+   * @return True if the date is in the set.
+   */
+  public boolean contains(final Date date) {
+    return date != null && containsEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Returns true if the given date, given as days since 1901-01-01, is in the set.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return True if the date is in the set, false as well for values outside the supported range.
+   */
+  public boolean containsEpochDay(final int epochDay) {
+    return epochDay >= 0
+        && epochDay < Date.DAYS_IN_SUPPORTED_RANGE
+        && (this.words[epochDay >>> 6] & 1L << epochDay) != 0;
+  }
+
+  /**
+   * Returns the number of dates in the set.
+   *
+   * @return Number of dates in the set.
+   */
+  public int cardinality() {
+    int cardinality = 0;
+    for (final long word : this.words) {
+      cardinality += Long.bitCount(word);
+    }
+    return cardinality;
+  }
+
+  /**
+   * Returns true if the set holds no date.
+   *
+   * @return True if the set is empty.
+   */
+  public boolean isEmpty() {
+    return nextEpochDay(0) < 0;
+  }
+
+  /**
+   * Returns the number of dates of the set that fall in the given range.
+   *
+   * @param range A range of dates.
+   * @return Number of dates of the set in the range.
+   */
+  public int count(final DateRange range) {
+    // Perform null check
+    if (range == null) {
+      throw new IllegalArgumentException("Range must not be null!");
+    }
+    return count(i -> this.words[i], range.getStartEpochDay(), range.getEndEpochDay());
+  }
+
+  /**
+   * Returns the first date of the set on or after the given day.
+   *
+   * @param fromEpochDay Day to start looking from as days since 1901-01-01.
+   * @return The first date of the set on or after the given day as days since 1901-01-01, or -1 if
+   *     there is none.
+   */
+  public int nextEpochDay(final int fromEpochDay) {
+    if (fromEpochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+      return -1;
+    }
+
+    int index = Math.max(fromEpochDay, 0) >>> 6;
+    long word = this.words[index] & -1L << Math.max(fromEpochDay, 0);
+    while (word == 0) {
+      if (++index == WORDS) {
+        return -1;
+      }
+      word = this.words[index];
+    }
+    return index * Long.SIZE + Long.numberOfTrailingZeros(word);
+  }
+
+  /**
+   * Returns a new set holding the dates of both this and the given set.
+   *
+   * @param other Another set.
+   * @return The union of both sets.
+   */
+  public DateSet union(final DateSet other) {
+    final long[] otherWords = checkSet(other).words;
+    final long[] result = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = this.words[i] | otherWords[i];
+    }
+    return new DateSet(result);
+  }
+
+  /**
+   * Returns a new set holding the dates that are in both this and the given set.
+   *
+   * @param other Another set.
+   * @return The intersection of both sets.
+   */
+  public DateSet intersection(final DateSet other) {
+    final long[] otherWords = checkSet(other).words;
+    final long[] result = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = this.words[i] & otherWords[i];
+    }
+    return new DateSet(result);
+  }
+
+  /**
+   * Returns a new set holding the dates of this set that are not in the given set.
+   *
+   * @param other Another set.
+   * @return This set without the dates of the other set.
+   */
+  public DateSet andNot(final DateSet other) {
+    final long[] otherWords = checkSet(other).words;
+    final long[] result = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = this.words[i] & ~otherWords[i];
+    }
+    return new DateSet(result);
+  }
+
+  /**
+   * Performs the given action for each date of the set, in ascending order, without creating any
+   * date object.
+   *
+   * @param action Receives each date as days since 1901-01-01.
+   */
+  public void forEachEpochDay(final IntConsumer action) {
+    for (int index = 0; index < WORDS; index++) {
+      long word = this.words[index];
+      while (word != 0) {
+        action.accept(index * Long.SIZE + Long.numberOfTrailingZeros(word));
+        // Clear the lowest set bit
+        word &= word - 1;
+      }
+    }
+  }
+
+  /**
+   * Returns the dates of the set in ascending order.
+   *
+   * @return A new array of days since 1901-01-01.
+   */
+  public int[] toEpochDays() {
+    final int[] epochDays = new int[cardinality()];
+    final int[] size = new int[1];
+    forEachEpochDay(epochDay -> epochDays[size[0]++] = epochDay);
+    return epochDays;
+  }
+
+  @Override
+  public Iterator<Date> iterator() {
+    return new Iterator<>() {
+      private int next = nextEpochDay(0);
+
+      @Override
+      public boolean hasNext() {
+        return this.next >= 0;
+      }
+
+      @Override
+      public Date next() {
+        if (this.next < 0) {
+          throw new NoSuchElementException("Set has no more dates!");
+        }
+        final Date date = Date.ofEpochDay(this.next);
+        this.next = nextEpochDay(this.next + 1);
+        return date;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object) {
+      return true;
+    }
+    return object instanceof DateSet && Arrays.equals(this.words, ((DateSet) object).words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.words);
+  }
+
+  static int count(final IntToLongFunction words, final int fromEpochDay, final int toEpochDay) {
+    if (toEpochDay <= fromEpochDay) {
+      return 0;
+    }
+
+    // Mask the bits before the start in the first word and from the end in the last word
+    final int first = fromEpochDay >>> 6;
+    final int last = (toEpochDay - 1) >>> 6;
+    final long firstMask = -1L << fromEpochDay;
+    final long lastMask = -1L >>> -toEpochDay;
+    if (first == last) {
+      return Long.bitCount(words.applyAsLong(first) & firstMask & lastMask);
+    }
+
+    int count = Long.bitCount(words.applyAsLong(first) & firstMask);
+    for (int i = first + 1; i < last; i++) {
+      count += Long.bitCount(words.applyAsLong(i));
+    }
+    return count + Long.bitCount(words.applyAsLong(last) & lastMask);
+  }
+
+  static void checkEpochDay(final int epochDay) {
+    if (epochDay < 0 || epochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!");
+    }
+  }
+
+  private static DateSet checkSet(final DateSet set) {
+    // Perform null check
+    if (set == null) {
+      throw new IllegalArgumentException("Set must not be null!");
+    }
+    return set;
+  }
+}
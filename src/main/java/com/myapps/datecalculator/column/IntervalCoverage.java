@@ -0,0 +1,297 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Coverage of the days of the supported range by a set of date intervals, for e.g. bookings. An
+ * interval covers the full days between its dates, as counted by {@link
+ * DateUtils#getFullDaysBetween(Date, Date)}, its own dates being partial days. The order of the
+ * two dates of an interval does not matter.
+ *
+ * <p>Intervals are recorded in a difference array, one increment at the first full day and one
+ * decrement after the last, so adding an interval costs the same whatever its length. The first
+ * query after adding intervals turns the array into per day occupancies and prefix sums in a single
+ * pass, then union length, overlap and occupancy queries take constant time. A coverage is about
+ * 8 MB and is not thread safe.
+ */
+public class IntervalCoverage {
+
+  // Change of occupancy at each day, the extra slot takes decrements after the last day
+  private final int[] changes;
+  private long size;
+
+  // Derived from the changes by the first query after an interval is added
+  private boolean stale = true;
+  private int[] occupancies;
+  private int[] coveredBefore;
+  private long[] occupancyBefore;
+  private int peakOccupancy;
+
+  /** Creates an empty coverage. */
+  public IntervalCoverage() {
+    this(new int[Date.DAYS_IN_SUPPORTED_RANGE + 1], 0);
+  }
+
+  private IntervalCoverage(final int[] changes, final long size) {
+    this.changes = changes;
+    this.size = size;
+  }
+
+  /**
+   * Creates the coverage of the intervals between the dates at the same index of both columns.
+   *
+   * @param starts Column holding one date of each interval.
+   * @param ends Column of the same size holding the other date of each interval, by index.
+   * @return A new coverage of the intervals.
+   */
+  public static IntervalCoverage of(final DateColumn starts, final DateColumn ends) {
+    checkColumns(starts, ends);
+    final int[] changes = new int[Date.DAYS_IN_SUPPORTED_RANGE + 1];
+    record(starts.getBackingArray(), ends.getBackingArray(), 0, starts.size(), changes);
+    return new IntervalCoverage(changes, starts.size());
+  }
+
+  /**
+   * Creates the coverage of the intervals between the dates at the same index of both columns,
+   * recording them in parallel on the given pool, in at most one chunk per thread of the pool.
+   *
+   * @param starts Column holding one date of each interval.
+   * @param ends Column of the same size holding the other date of each interval, by index.
+   * @param pool Pool to record the slices on.
+   * @return A new coverage of the intervals.
+   */
+  public static IntervalCoverage of(
+      final DateColumn starts, final DateColumn ends, final ForkJoinPool pool) {
+    checkColumns(starts, ends);
+    // Perform null check
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool must not be null!");
+    }
+
+    final int[] startEpochDays = starts.getBackingArray();
+    final int[] endEpochDays = ends.getBackingArray();
+    final int[] changes =
+        SliceReduction.sum(
+            SliceReduction.reduce(
+                new int[] {starts.size()},
+                Date.DAYS_IN_SUPPORTED_RANGE + 1,
+                (partition, from, to, chunkChanges) ->
+                    record(startEpochDays, endEpochDays, from, to, chunkChanges),
+                pool));
+    return new IntervalCoverage(changes, starts.size());
+  }
+
+  /**
+   * Returns the full days two intervals have in common.
+   *
+   * @param firstStart A date of the first interval.
+   * @param firstEnd The other date of the first interval.
+   * @param secondStart A date of the second interval.
+   * @param secondEnd The other date of the second interval.
+   * @return Number of full days covered by both intervals.
+   */
+  public static int getOverlapFullDays(
+      final Date firstStart, final Date firstEnd, final Date secondStart, final Date secondEnd) {
+    // Perform null check
+    if (firstStart == null || firstEnd == null || secondStart == null || secondEnd == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+
+    final int firstDay =
+        Math.max(
+            Math.min(firstStart.getEpochDay(), firstEnd.getEpochDay()),
+            Math.min(secondStart.getEpochDay(), secondEnd.getEpochDay()));
+    final int lastDay =
+        Math.min(
+            Math.max(firstStart.getEpochDay(), firstEnd.getEpochDay()),
+            Math.max(secondStart.getEpochDay(), secondEnd.getEpochDay()));
+    return Math.max(lastDay - firstDay - 1, 0);
+  }
+
+  /**
+   * Adds the interval between the given dates to the coverage.
+   *
+   * @param start A date of the interval.
+   * @param end The other date of the interval.
+   */
+  public void add(final Date start, final Date end) {
+    // Perform null check
+    if (start == null || end == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+    record(start.getEpochDay(), end.getEpochDay(), this.changes);
+    this.size++;
+    this.stale = true;
+  }
+
+  /**
+   * Adds the interval between the given dates, given as days since 1901-01-01, to the coverage.
+   *
+   * @param startEpochDay A date of the interval as days since 1901-01-01.
+   * @param endEpochDay The other date of the interval as days since 1901-01-01.
+   * @throws IllegalArgumentException Thrown if any of the values is outside the supported range.
+   */
+  public void addEpochDays(final int startEpochDay, final int endEpochDay) {
+    DateSet.checkEpochDay(startEpochDay);
+    DateSet.checkEpochDay(endEpochDay);
+    record(startEpochDay, endEpochDay, this.changes);
+    this.size++;
+    this.stale = true;
+  }
+
+  /**
+   * Returns the number of intervals added, including those that cover no full day.
+   *
+   * @return Number of intervals.
+   */
+  public long size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the number of intervals covering the given date as a full day.
+   *
+   * @param date A date.
+   * @return Number of intervals covering the date.
+   */
+  public int getOccupancy(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    derive();
+    return this.occupancies[date.getEpochDay()];
+  }
+
+  /**
+   * Returns the number of intervals covering each date of the given range as a full day.
+   *
+   * @param range A range of dates.
+   * @return A new array of occupancies, the first being the one of the start of the range.
+   */
+  public int[] getOccupancies(final DateRange range) {
+    // Perform null check
+    if (range == null) {
+      throw new IllegalArgumentException("Range must not be null!");
+    }
+    derive();
+    final int[] occupancies = new int[range.size()];
+    System.arraycopy(
+        this.occupancies, range.getStartEpochDay(), occupancies, 0, occupancies.length);
+    return occupancies;
+  }
+
+  /**
+   * Returns the highest number of intervals covering the same day.
+   *
+   * @return Peak occupancy, or 0 if no interval covers a full day.
+   */
+  public int getPeakOccupancy() {
+    derive();
+    return this.peakOccupancy;
+  }
+
+  /**
+   * Returns the number of days covered by at least one interval.
+   *
+   * @return Number of full days in the union of the intervals.
+   */
+  public int getUnionFullDays() {
+    derive();
+    return this.coveredBefore[Date.DAYS_IN_SUPPORTED_RANGE];
+  }
+
+  /**
+   * Returns the number of full days between the given dates covered by at least one interval.
+   *
+   * @param start A date of the query interval.
+   * @param end The other date of the query interval.
+   * @return Number of full days of the query interval in the union of the intervals.
+   */
+  public int getCoveredFullDays(final Date start, final Date end) {
+    checkDates(start, end);
+    derive();
+    final int firstDay = Math.min(start.getEpochDay(), end.getEpochDay()) + 1;
+    final int lastDay = Math.max(start.getEpochDay(), end.getEpochDay()) - 1;
+    return lastDay < firstDay ? 0 : this.coveredBefore[lastDay + 1] - this.coveredBefore[firstDay];
+  }
+
+  /**
+   * Returns the full days each interval has in common with the query interval, summed over all
+   * intervals. The result is identical to summing {@link #getOverlapFullDays(Date, Date, Date,
+   * Date)} between the query interval and every interval.
+   *
+   * @param start A date of the query interval.
+   * @param end The other date of the query interval.
+   * @return Total number of full days overlapping the query interval.
+   */
+  public long getTotalOverlapFullDays(final Date start, final Date end) {
+    checkDates(start, end);
+    derive();
+    final int firstDay = Math.min(start.getEpochDay(), end.getEpochDay()) + 1;
+    final int lastDay = Math.max(start.getEpochDay(), end.getEpochDay()) - 1;
+    return lastDay < firstDay
+        ? 0
+        : this.occupancyBefore[lastDay + 1] - this.occupancyBefore[firstDay];
+  }
+
+  private void derive() {
+    if (!this.stale) {
+      return;
+    }
+    if (this.occupancies == null) {
+      this.occupancies = new int[Date.DAYS_IN_SUPPORTED_RANGE];
+      this.coveredBefore = new int[Date.DAYS_IN_SUPPORTED_RANGE + 1];
+      this.occupancyBefore = new long[Date.DAYS_IN_SUPPORTED_RANGE + 1];
+    }
+
+    // Sweep the days once, accumulating the changes and the prefix sums over them
+    int occupancy = 0;
+    int peakOccupancy = 0;
+    for (int epochDay = 0; epochDay < Date.DAYS_IN_SUPPORTED_RANGE; epochDay++) {
+      occupancy += this.changes[epochDay];
+      this.occupancies[epochDay] = occupancy;
+      this.coveredBefore[epochDay + 1] = this.coveredBefore[epochDay] + (occupancy > 0 ? 1 : 0);
+      this.occupancyBefore[epochDay + 1] = this.occupancyBefore[epochDay] + occupancy;
+      peakOccupancy = Math.max(peakOccupancy, occupancy);
+    }
+    this.peakOccupancy = peakOccupancy;
+    this.stale = false;
+  }
+
+  private static void record(final int startEpochDay, final int endEpochDay, final int[] changes) {
+    // Only the days strictly between both dates are full days
+    final int firstDay = Math.min(startEpochDay, endEpochDay) + 1;
+    final int lastDay = Math.max(startEpochDay, endEpochDay) - 1;
+    if (firstDay <= lastDay) {
+      changes[firstDay]++;
+      changes[lastDay + 1]--;
+    }
+  }
+
+  private static void record(
+      final int[] starts, final int[] ends, final int from, final int to, final int[] changes) {
+    // Columns only hold dates of the supported range
+    for (int i = from; i < to; i++) {
+      record(starts[i], ends[i], changes);
+    }
+  }
+
+  private static void checkColumns(final DateColumn starts, final DateColumn ends) {
+    // Perform size check
+    if (starts == null || ends == null || starts.size() != ends.size()) {
+      throw new IllegalArgumentException("Columns must be of the same size!");
+    }
+  }
+
+  private static void checkDates(final Date start, final Date end) {
+    // Perform null check
+    if (start == null || end == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+  }
+}
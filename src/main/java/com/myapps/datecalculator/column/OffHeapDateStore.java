@@ -0,0 +1,310 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An off-heap store of dates, each packed as its epoch day, that can be written to disk and mapped
+ * back with zero copy. A mapped store can be queried straight away, without parsing or allocating
+ * on the heap.
+ *
+ * <p>On load, the count and the date range recorded in the header are checked against the file
+ * size and the supported date range, the dates themselves are not scanned.
+ *
+ * <p>The binary layout is a 24 byte little-endian header followed by one int per date:
+ *
+ * <pre>
+ *   int  magic, "DATE"
+ *   int  version
+ *   long count of dates
+ *   int  oldest epoch day
+ *   int  newest epoch day
+ *   int  epoch days...
+ * </pre>
+ */
+public final class OffHeapDateStore {
+
+  static final int MAGIC = 0x44415445;
+  static final int VERSION = 1;
+
+  // Offsets of the header fields, the dates follow the header
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int COUNT_OFFSET = 8;
+  private static final int MIN_OFFSET = 16;
+  private static final int MAX_OFFSET = 20;
+  static final int HEADER_SIZE = 24;
+
+  // A store is a single buffer, whose size is an int
+  static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final IntBuffer epochDays;
+  private int size;
+  private int minEpochDay;
+  private int maxEpochDay;
+
+  private OffHeapDateStore(final ByteBuffer buffer, final int size) {
+    this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    this.epochDays =
+        this.buffer
+            .duplicate()
+            .position(HEADER_SIZE)
+            .slice()
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asIntBuffer();
+    this.size = size;
+    this.minEpochDay = this.buffer.getInt(MIN_OFFSET);
+    this.maxEpochDay = this.buffer.getInt(MAX_OFFSET);
+  }
+
+  /**
+   * Creates an empty store in a direct buffer.
+   *
+   * @param capacity Number of dates the store can hold.
+   * @return A new writable store.
+   * @throws IllegalArgumentException Thrown if the store would not fit in a single buffer.
+   */
+  public static OffHeapDateStore allocate(final int capacity) {
+    // Perform range check
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Capacity must be between 0-" + MAX_CAPACITY + "!");
+    }
+
+    final long bufferSize = HEADER_SIZE + (long) capacity * Integer.BYTES;
+    final ByteBuffer buffer =
+        ByteBuffer.allocateDirect((int) bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC_OFFSET, MAGIC);
+    buffer.putInt(VERSION_OFFSET, VERSION);
+    buffer.putLong(COUNT_OFFSET, 0);
+
+    // An empty store has an empty range
+    buffer.putInt(MIN_OFFSET, Date.DAYS_IN_SUPPORTED_RANGE);
+    buffer.putInt(MAX_OFFSET, -1);
+    return new OffHeapDateStore(buffer, 0);
+  }
+
+  /**
+   * Creates a store holding the dates of the given column, in column order.
+   *
+   * @param column Column to copy the dates from.
+   * @return A new writable store, full to capacity.
+   */
+  public static OffHeapDateStore of(final DateColumn column) {
+    final OffHeapDateStore store = allocate(column.size());
+    for (int i = 0; i < column.size(); i++) {
+      store.addEpochDay(column.getEpochDay(i));
+    }
+    return store;
+  }
+
+  /**
+   * Maps a store previously written with {@link #writeTo(Path)}. The dates are not copied, they are
+   * read from the mapped file on demand.
+   *
+   * @param file File holding the store.
+   * @return A read-only store backed by the file.
+   * @throws IOException Thrown if the file cannot be mapped, or it is not a valid store of dates
+   *     within the supported date range.
+   */
+  public static OffHeapDateStore map(final Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long fileSize = channel.size();
+      if (fileSize < HEADER_SIZE) {
+        throw new IOException("Invalid date store! File is shorter than the header.");
+      }
+      // A single mapping cannot exceed 2 GB, which no store written by this class does
+      if (fileSize > Integer.MAX_VALUE) {
+        throw new IOException("Invalid date store! File is larger than 2 GB.");
+      }
+
+      final ByteBuffer buffer =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN);
+      return new OffHeapDateStore(buffer, validateHeader(buffer, fileSize));
+    }
+  }
+
+  /**
+   * Appends the given date to the store.
+   *
+   * @param date Date to add.
+   */
+  public void add(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    addEpochDay(date.getEpochDay());
+  }
+
+  /**
+   * Appends the given epoch day to the store.
+   *
+   * @param epochDay Date as days since 1901-01-01.
+   * @throws IllegalArgumentException Thrown if the value is outside the supported range.
+   * @throws IllegalStateException Thrown if the store is full, or it was opened with {@link
+   *     #map(Path)}.
+   */
+  public void addEpochDay(final int epochDay) {
+    if (epochDay < 0 || epochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!");
+    }
+    // Mapped stores are read-only, whatever capacity their file has left
+    if (this.buffer.isReadOnly()) {
+      throw new IllegalStateException("Date store is read-only!");
+    }
+    if (this.size == getCapacity()) {
+      throw new IllegalStateException("Date store is full!");
+    }
+
+    this.epochDays.put(this.size++, epochDay);
+    this.minEpochDay = Math.min(this.minEpochDay, epochDay);
+    this.maxEpochDay = Math.max(this.maxEpochDay, epochDay);
+
+    // Keep the header current, so the buffer can be written as is
+    this.buffer.putLong(COUNT_OFFSET, this.size);
+    this.buffer.putInt(MIN_OFFSET, this.minEpochDay);
+    this.buffer.putInt(MAX_OFFSET, this.maxEpochDay);
+  }
+
+  /**
+   * Returns the number of dates in the store.
+   *
+   * @return Number of dates in the store.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the number of dates the store can hold.
+   *
+   * @return Capacity of the store.
+   */
+  public int getCapacity() {
+    return this.epochDays.capacity();
+  }
+
+  /**
+   * Returns the epoch day at the given index.
+   *
+   * @param index Index of the date within the store.
+   * @return Date at the index as days since 1901-01-01.
+   */
+  public int getEpochDay(final int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + index + " out of bounds for size " + this.size);
+    }
+    return this.epochDays.get(index);
+  }
+
+  /**
+   * Returns the oldest date of the store, as recorded in its header.
+   *
+   * @return The oldest date as days since 1901-01-01.
+   */
+  public int getMinEpochDay() {
+    return this.minEpochDay;
+  }
+
+  /**
+   * Returns the newest date of the store, as recorded in its header.
+   *
+   * @return The newest date as days since 1901-01-01.
+   */
+  public int getMaxEpochDay() {
+    return this.maxEpochDay;
+  }
+
+  /**
+   * Returns full days between the dates at the given indexes.
+   *
+   * @param firstIndex Index of the from date.
+   * @param secondIndex Index of the to date.
+   * @return Total number of full days between the two dates.
+   */
+  public int getFullDaysBetween(final int firstIndex, final int secondIndex) {
+    return DateUtils.getFullDaysBetween(getEpochDay(firstIndex), getEpochDay(secondIndex));
+  }
+
+  /**
+   * Computes full days between every date of the store and the given date.
+   *
+   * @param date Date to compare every stored date with.
+   * @param fullDaysBetween Receives the full days between each stored date and the given date, by
+   *     index.
+   */
+  public void getFullDaysBetween(final Date date, final int[] fullDaysBetween) {
+    // Perform null and length check
+    if (date == null || fullDaysBetween == null) {
+      throw new IllegalArgumentException("Date and result array must not be null!");
+    }
+    if (fullDaysBetween.length < this.size) {
+      throw new IllegalArgumentException("Result array must fit every stored date!");
+    }
+
+    final int epochDay = date.getEpochDay();
+    for (int i = 0; i < this.size; i++) {
+      fullDaysBetween[i] = DateUtils.getFullDaysBetween(this.epochDays.get(i), epochDay);
+    }
+  }
+
+  /**
+   * Writes the header and the dates of the store to the given file, replacing its content.
+   *
+   * @param file File to write the store to.
+   * @throws IOException Thrown if the file cannot be written.
+   */
+  public void writeTo(final Path file) throws IOException {
+    final ByteBuffer content = this.buffer.duplicate();
+    content.position(0).limit(HEADER_SIZE + this.size * Integer.BYTES);
+
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+  }
+
+  private static int validateHeader(final ByteBuffer buffer, final long fileSize)
+      throws IOException {
+    if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+      throw new IOException("Invalid date store! File does not start with the store header.");
+    }
+    if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+      throw new IOException(
+          "Invalid date store! Version " + buffer.getInt(VERSION_OFFSET) + " is not supported.");
+    }
+
+    final long count = buffer.getLong(COUNT_OFFSET);
+    if (count < 0
+        || count > (fileSize - HEADER_SIZE) / Integer.BYTES
+        || count > Integer.MAX_VALUE) {
+      throw new IOException("Invalid date store! Count does not match the file size.");
+    }
+
+    // Dates outside the supported range would break every query on the store
+    final int min = buffer.getInt(MIN_OFFSET);
+    final int max = buffer.getInt(MAX_OFFSET);
+    if (count > 0 && (min < 0 || max >= Date.DAYS_IN_SUPPORTED_RANGE || min > max)) {
+      throw new IOException(
+          "Invalid date store! Dates must be between 1901-01-01 and 2999-12-31.");
+    }
+    return (int) count;
+  }
+}
@@ -0,0 +1,114 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.util.ParallelChunks;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reduces partitioned columns to per day arrays in parallel. The elements of all the partitions are
+ * split into one contiguous chunk per thread of the pool, at most, and each chunk is recorded into
+ * its own array. The number of arrays alive, and of chunks running at once, is therefore bounded by
+ * the parallelism of the pool, whatever the number and the size of the partitions.
+ */
+final class SliceReduction {
+
+  // Smallest number of elements worth giving to a thread
+  static final int MIN_CHUNK_SIZE = 1 << 20;
+
+  /** Records a range of the elements of a partition into an array of the chunk. */
+  @FunctionalInterface
+  interface Recorder {
+
+    /**
+     * Records the elements of the given range of a partition.
+     *
+     * @param partition Index of the partition.
+     * @param from First index of the range within the partition, inclusive.
+     * @param to Last index of the range within the partition, exclusive.
+     * @param days Array of the chunk to record the elements into.
+     */
+    void record(int partition, int from, int to, int[] days);
+  }
+
+  private SliceReduction() {}
+
+  /**
+   * Records every element of the given partitions, in parallel on the given pool.
+   *
+   * @param sizes Number of elements of each partition.
+   * @param length Length of the array of each chunk.
+   * @param recorder Records ranges of the partitions, called from any thread.
+   * @param pool Pool to record the chunks on.
+   * @return One array per chunk, to be merged by the caller.
+   */
+  static int[][] reduce(
+      final int[] sizes, final int length, final Recorder recorder, final ForkJoinPool pool) {
+    return reduce(sizes, length, recorder, pool, MIN_CHUNK_SIZE);
+  }
+
+  static int[][] reduce(
+      final int[] sizes,
+      final int length,
+      final Recorder recorder,
+      final ForkJoinPool pool,
+      final int minChunkSize) {
+    long total = 0;
+    for (final int size : sizes) {
+      total += size;
+    }
+    final int chunks = (int) Math.max(Math.min(pool.getParallelism(), total / minChunkSize), 1);
+
+    final int[][] days = new int[chunks][];
+    final long elements = total;
+    ParallelChunks.forEachChunk(
+        pool,
+        chunks,
+        chunk -> {
+          days[chunk] = new int[length];
+          record(
+              sizes,
+              elements * chunk / chunks,
+              elements * (chunk + 1) / chunks,
+              recorder,
+              days[chunk]);
+        });
+    return days;
+  }
+
+  /**
+   * Adds up the arrays of the chunks into the first one.
+   *
+   * @param days Arrays returned by {@link #reduce(int[], int, Recorder, ForkJoinPool)}.
+   * @return The first array, holding the sums.
+   */
+  static int[] sum(final int[][] days) {
+    final int[] sums = days[0];
+    for (int chunk = 1; chunk < days.length; chunk++) {
+      for (int day = 0; day < sums.length; day++) {
+        sums[day] += days[chunk][day];
+      }
+    }
+    return sums;
+  }
+
+  private static void record(
+      final int[] sizes,
+      final long from,
+      final long to,
+      final Recorder recorder,
+      final int[] days) {
+    // Walk the partitions overlapping the chunk, as if they were one column
+    long partitionStart = 0;
+    for (int partition = 0; partition < sizes.length && partitionStart < to; partition++) {
+      final long partitionEnd = partitionStart + sizes[partition];
+      if (partitionEnd > from) {
+        recorder.record(
+            partition,
+            (int) (Math.max(from, partitionStart) - partitionStart),
+            (int) (Math.min(to, partitionEnd) - partitionStart),
+            days);
+      }
+      partitionStart = partitionEnd;
+    }
+  }
+}
@@ -2,9 +2,18 @@ package com.myapps.datecalculator.constant;
 
 /** A class to store common constants */
 public class Constant {
-  // Regular expression for date format yyyy-MM-dd
+  /**
+   * Regular expression for date format yyyy-MM-dd.
+   *
+   * @deprecated Dates are no longer validated with a regular expression, use {@link
+   *     com.myapps.datecalculator.date.DateParser#parse(CharSequence)} instead.
+   */
+  @Deprecated
   public static final String DATE_FORMAT_REGEX = "([0-9]{4})-([0-9]{2})-([0-9]{2})";
 
+  // Year of the first day (day 0) of the day ordinal used by Date
+  public static final int EPOCH_YEAR = 1901;
+
   // Days in a year
   public static final int DAYS_IN_A_LEAP_YEAR = 366;
   public static final int DAYS_IN_A_NON_LEAP_YEAR = 365;
@@ -18,6 +27,21 @@ public class Constant {
   public static final String YES = "Y";
   public static final String NO = "N";
 
+  // Bulk mode command line options, '-' stands for standard input or output
+  public static final String INPUT_OPTION = "--input";
+  public static final String OUTPUT_OPTION = "--output";
+  public static final String PARALLELISM_OPTION = "--parallelism";
+  public static final String STANDARD_STREAM = "-";
+
+  // Server mode command line option
+  public static final String PORT_OPTION = "--port";
+
   // Error messages
+  public static final String DATE_OUT_OF_RANGE_ERROR =
+      "Resulting date must be between 1901-01-01 and 2999-12-31!";
   public static final String INVALID_ANSWER_ERROR = "Invalid answer. Please enter 'Y' or 'N'...\n";
+  public static final String BULK_USAGE_ERROR =
+      "Usage: FindFullDaysBetweenDates [--input <pairs.csv|->] [--output <out.csv|->]"
+          + " [--parallelism <threads>]\n"
+          + "       FindFullDaysBetweenDates --port <port>";
 }
@@ -1,36 +1,38 @@
 package com.myapps.datecalculator.date;
 
-import com.myapps.datecalculator.constant.Constant;
 import com.myapps.datecalculator.exception.InvalidDateException;
 import com.myapps.datecalculator.exception.InvalidDateFormatException;
 import com.myapps.datecalculator.util.DateUtils;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.DayOfWeek;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static com.myapps.datecalculator.constant.Constant.DATE_OUT_OF_RANGE_ERROR;
 import static com.myapps.datecalculator.constant.Constant.DAYS_IN_A_LEAP_YEAR;
 import static com.myapps.datecalculator.constant.Constant.DAYS_IN_A_NON_LEAP_YEAR;
+import static com.myapps.datecalculator.constant.Constant.EPOCH_YEAR;
 import static com.myapps.datecalculator.date.Date.Month.fromInt;
 import static java.lang.Integer.compare;
-import static java.lang.Integer.parseInt;
-import static java.lang.String.format;
-import static java.util.regex.Pattern.compile;
-import static org.apache.commons.lang3.StringUtils.capitalize;
 
 /**
  * A class that represents a date in yyyy-MM-dd format. It provides few helper methods like date
  * comparison and days in a month or year.
+ *
+ * <p>The static factory methods return canonical instances, one per day of the supported range,
+ * while the constructors always create a new object.
  */
 @Getter
-@EqualsAndHashCode
 public class Date implements Comparable<Date> {
 
-  private static final Pattern DATE_PATTERN = compile(Constant.DATE_FORMAT_REGEX);
+  // Number of days from 1901-01-01 to 2999-12-31, both inclusive
+  public static final int DAYS_IN_SUPPORTED_RANGE =
+      DateUtils.getDaysFromEpochToYear(SupportedYearRange.YEAR_MAX.getExtrema() + 1);
+
+  // Canonical instances indexed by epoch day, populated lazily by the factory methods
+  private static final AtomicReferenceArray<Date> CANONICAL_DATES =
+      new AtomicReferenceArray<>(DAYS_IN_SUPPORTED_RANGE);
 
   private final int year;
   private final Month month;
@@ -38,6 +40,9 @@ public class Date implements Comparable<Date> {
 
   private final boolean isLeapYear;
 
+  // Number of days since 1901-01-01, which is day 0
+  private final int epochDay;
+
   /**
    * Creates a date object from the given string in the format yyyy-MM-dd.
    *
@@ -48,62 +53,287 @@ public class Date implements Comparable<Date> {
    *     outside the supported date range {@link SupportedYearRange#YEAR_MIN} and {@link
    *     SupportedYearRange#YEAR_MAX}.
    */
-  public Date(final String date) throws InvalidDateFormatException, InvalidDateException {
-    final Matcher matcher = DATE_PATTERN.matcher(date);
+  public Date(final CharSequence date) throws InvalidDateFormatException, InvalidDateException {
+    this(DateParser.requireValid(DateParser.parse(date)));
+  }
+
+  /**
+   * Creates a date object from the ten characters in the format yyyy-MM-dd starting at the given
+   * offset of a character buffer.
+   *
+   * @param chars A character buffer holding a date in the format yyyy-MM-dd.
+   * @param offset Index of the first character of the date within the buffer.
+   * @throws InvalidDateFormatException Thrown if the characters are not in the format yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the characters represent an invalid date, or it is
+   *     outside the supported date range {@link SupportedYearRange#YEAR_MIN} and {@link
+   *     SupportedYearRange#YEAR_MAX}.
+   */
+  public Date(final char[] chars, final int offset)
+      throws InvalidDateFormatException, InvalidDateException {
+    this(DateParser.requireValid(DateParser.parse(chars, offset)));
+  }
+
+  /**
+   * Creates a date object from the ten ASCII bytes in the format yyyy-MM-dd starting at the given
+   * offset of a byte buffer.
+   *
+   * @param bytes A byte buffer holding a date in the format yyyy-MM-dd as ASCII characters.
+   * @param offset Index of the first byte of the date within the buffer.
+   * @throws InvalidDateFormatException Thrown if the bytes are not in the format yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the bytes represent an invalid date, or it is outside
+   *     the supported date range {@link SupportedYearRange#YEAR_MIN} and {@link
+   *     SupportedYearRange#YEAR_MAX}.
+   */
+  public Date(final byte[] bytes, final int offset)
+      throws InvalidDateFormatException, InvalidDateException {
+    this(DateParser.requireValid(DateParser.parse(bytes, offset)));
+  }
+
+  private Date(final int yyyyMMdd) {
+    // The value has already been validated by DateParser
+    this.year = yyyyMMdd / 10000;
+    this.isLeapYear = DateUtils.isLeapYear(this.year);
+    this.month = fromInt(yyyyMMdd / 100 % 100);
+    this.day = yyyyMMdd % 100;
+
+    // Compute the day ordinal once, so comparisons and differences are plain int operations
+    this.epochDay = DateUtils.getDaysFromEpochToYear(this.year) + this.getDayOfTheYear() - 1;
+  }
+
+  /**
+   * Returns the canonical date object for the given string in the format yyyy-MM-dd. Equal dates
+   * share one instance, so no object is allocated once a date has been seen.
+   *
+   * @param date A date string in the format yyyy-MM-dd
+   * @return The canonical date object.
+   * @throws InvalidDateFormatException Thrown if the given date string is not in the format
+   *     yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the given date string is an invalid date, or it is
+   *     outside the supported date range {@link SupportedYearRange#YEAR_MIN} and {@link
+   *     SupportedYearRange#YEAR_MAX}.
+   */
+  public static Date parse(final CharSequence date)
+      throws InvalidDateFormatException, InvalidDateException {
+    return fromYyyyMMdd(DateParser.requireValid(DateParser.parse(date)));
+  }
+
+  /**
+   * Returns the canonical date object for the ten characters in the format yyyy-MM-dd starting at
+   * the given offset of a character buffer.
+   *
+   * @param chars A character buffer holding a date in the format yyyy-MM-dd.
+   * @param offset Index of the first character of the date within the buffer.
+   * @return The canonical date object.
+   * @throws InvalidDateFormatException Thrown if the characters are not in the format yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the characters represent an invalid date, or it is
+   *     outside the supported date range.
+   */
+  public static Date parse(final char[] chars, final int offset)
+      throws InvalidDateFormatException, InvalidDateException {
+    return fromYyyyMMdd(DateParser.requireValid(DateParser.parse(chars, offset)));
+  }
+
+  /**
+   * Returns the canonical date object for the ten ASCII bytes in the format yyyy-MM-dd starting at
+   * the given offset of a byte buffer.
+   *
+   * @param bytes A byte buffer holding a date in the format yyyy-MM-dd as ASCII characters.
+   * @param offset Index of the first byte of the date within the buffer.
+   * @return The canonical date object.
+   * @throws InvalidDateFormatException Thrown if the bytes are not in the format yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the bytes represent an invalid date, or it is outside
+   *     the supported date range.
+   */
+  public static Date parse(final byte[] bytes, final int offset)
+      throws InvalidDateFormatException, InvalidDateException {
+    return fromYyyyMMdd(DateParser.requireValid(DateParser.parse(bytes, offset)));
+  }
+
+  /**
+   * Returns the canonical date object for the given year, month and day.
+   *
+   * @param year Year of the date.
+   * @param month Month of the date, from 1 to 12.
+   * @param day Day of the month.
+   * @return The canonical date object.
+   * @throws InvalidDateException Thrown if the given fields make an invalid date, or it is outside
+   *     the supported date range {@link SupportedYearRange#YEAR_MIN} and {@link
+   *     SupportedYearRange#YEAR_MAX}.
+   */
+  public static Date of(final int year, final int month, final int day)
+      throws InvalidDateException {
+    final int result = DateParser.validate(year, month, day);
+    if (!DateParser.isValid(result)) {
+      throw new InvalidDateException(DateParser.getMessage(result));
+    }
+    return fromYyyyMMdd(result);
+  }
 
-    // Check if the given date string format is valid
-    if (!matcher.matches()) {
-      throw new InvalidDateFormatException();
+  /**
+   * Returns the canonical date object for the given number of days since 1901-01-01.
+   *
+   * @param epochDay Number of days since 1901-01-01, which is day 0.
+   * @return The canonical date object.
+   */
+  public static Date ofEpochDay(final int epochDay) {
+    // Perform range check
+    if (epochDay < 0 || epochDay >= DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (DAYS_IN_SUPPORTED_RANGE - 1) + "!");
     }
 
-    // Parse date string and validate
-    try {
-      // Parse year and validate if it is supported within range
-      this.year = parseInt(matcher.group(1));
-      validateYear();
+    final Date date = CANONICAL_DATES.get(epochDay);
+    if (date != null) {
+      return date;
+    }
+    return intern(new Date(computeYyyyMMdd(epochDay)));
+  }
 
-      // Set leap year flag
-      this.isLeapYear = DateUtils.isLeapYear(this.year);
+  /**
+   * Returns true if the given value is a date of the supported range in yyyyMMdd form.
+   *
+   * @param yyyyMMdd A date as a yyyyMMdd value, for e.g. 19681218.
+   * @return True if the value is a valid date.
+   */
+  public static boolean isValidYyyyMMdd(final int yyyyMMdd) {
+    return DateParser.isValid(
+        DateParser.validate(yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100));
+  }
 
-      // Parse month and check if it is valid
-      this.month = fromInt(parseInt(matcher.group(2)));
-      validateMonth();
+  /**
+   * Returns the number of days since 1901-01-01 of the given date in yyyyMMdd form.
+   *
+   * @param yyyyMMdd A valid date as a yyyyMMdd value, for e.g. 19681218.
+   * @return Number of days since 1901-01-01, which is day 0.
+   * @throws IllegalArgumentException Thrown if the given value is not a valid date.
+   */
+  public static int toEpochDay(final int yyyyMMdd) {
+    // Perform validity check
+    if (!isValidYyyyMMdd(yyyyMMdd)) {
+      throw new IllegalArgumentException("Date must be a valid yyyyMMdd value!");
+    }
+    return computeEpochDay(yyyyMMdd);
+  }
 
-      // Parse day and check if it is valid
-      this.day = parseInt(matcher.group(3));
-      validateDay();
-    } catch (final NumberFormatException e) {
-      throw new InvalidDateFormatException(e);
+  /**
+   * Returns the given number of days since 1901-01-01 as a date in yyyyMMdd form.
+   *
+   * @param epochDay Number of days since 1901-01-01, which is day 0.
+   * @return The date as a yyyyMMdd value, for e.g. 19681218.
+   * @throws IllegalArgumentException Thrown if the epoch day is outside the supported range.
+   */
+  public static int toYyyyMMdd(final int epochDay) {
+    // Perform range check
+    if (epochDay < 0 || epochDay >= DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (DAYS_IN_SUPPORTED_RANGE - 1) + "!");
     }
+    return computeYyyyMMdd(epochDay);
   }
 
-  private void validateYear() throws InvalidDateException {
-    if (this.year < SupportedYearRange.YEAR_MIN.getExtrema()
-        || this.year > SupportedYearRange.YEAR_MAX.getExtrema()) {
-      throw new InvalidDateException("Invalid date! Year must be between 1901-2999.");
+  private static Date fromYyyyMMdd(final int yyyyMMdd) {
+    // Only allocate a new date object if the canonical one has not been created yet
+    final Date canonicalDate = CANONICAL_DATES.get(computeEpochDay(yyyyMMdd));
+    return canonicalDate != null ? canonicalDate : intern(new Date(yyyyMMdd));
+  }
+
+  private static Date intern(final Date date) {
+    // Whichever thread publishes first wins, every other caller gets that instance
+    if (CANONICAL_DATES.compareAndSet(date.epochDay, null, date)) {
+      return date;
     }
+    return CANONICAL_DATES.get(date.epochDay);
+  }
+
+  private static int computeEpochDay(final int yyyyMMdd) {
+    final int year = yyyyMMdd / 10000;
+    final int dayOfTheYear =
+        fromInt(yyyyMMdd / 100 % 100).getDaysBefore(DateUtils.isLeapYear(year)) + yyyyMMdd % 100;
+    return DateUtils.getDaysFromEpochToYear(year) + dayOfTheYear - 1;
   }
 
-  private void validateMonth() throws InvalidDateException {
-    // A month would not have been assigned if it falls outside valid month range
-    if (this.month == null) {
-      throw new InvalidDateException("Invalid date! Month must be between 01-12.");
+  private static int computeYyyyMMdd(final int epochDay) {
+    // Start from an estimate that can only overshoot the year, then step back
+    int year = EPOCH_YEAR + epochDay / DAYS_IN_A_NON_LEAP_YEAR;
+    while (DateUtils.getDaysFromEpochToYear(year) > epochDay) {
+      year--;
     }
+
+    // No month is longer than 31 days, so this estimate can fall short of the month by at most one
+    final boolean isLeapYear = DateUtils.isLeapYear(year);
+    final int dayOfTheYear = epochDay - DateUtils.getDaysFromEpochToYear(year) + 1;
+    Month month = fromInt((dayOfTheYear - 1) / 31 + 1);
+    while (month != Month.DECEMBER
+        && dayOfTheYear > fromInt(month.getValue() + 1).getDaysBefore(isLeapYear)) {
+      month = fromInt(month.getValue() + 1);
+    }
+    return (year * 100 + month.getValue()) * 100 + dayOfTheYear - month.getDaysBefore(isLeapYear);
   }
 
-  private void validateDay() throws InvalidDateException {
-    if (this.day < 1) {
-      throw new InvalidDateException("Invalid date! Day must be more than 0.");
+  /**
+   * Returns the canonical date the given number of days after this date.
+   *
+   * @param days Number of days to add, may be negative.
+   * @return The canonical date object.
+   * @throws IllegalArgumentException Thrown if the resulting date is outside the supported range.
+   */
+  public Date plusDays(final long days) {
+    final long epochDay = this.epochDay + days;
+
+    // Perform range check
+    if (epochDay < 0 || epochDay >= DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(DATE_OUT_OF_RANGE_ERROR);
     }
+    return ofEpochDay((int) epochDay);
+  }
 
-    int daysThisMonth = this.getDaysThisMonth();
+  /**
+   * Returns the canonical date the given number of days before this date.
+   *
+   * @param days Number of days to subtract, may be negative.
+   * @return The canonical date object.
+   * @throws IllegalArgumentException Thrown if the resulting date is outside the supported range.
+   */
+  public Date minusDays(final long days) {
+    // Perform overflow check, Long.MIN_VALUE cannot be negated
+    if (days == Long.MIN_VALUE) {
+      throw new IllegalArgumentException(DATE_OUT_OF_RANGE_ERROR);
+    }
+    return plusDays(-days);
+  }
 
-    if (this.day > daysThisMonth) {
-      throw new InvalidDateException(
-          format(
-              "Invalid date! There cannot be more than %s days in the month of %s of year %d",
-              daysThisMonth, capitalize(this.month.toString().toLowerCase()), this.year));
+  /**
+   * Returns the canonical date the given number of months after this date. The day of the month is
+   * kept, unless the resulting month is shorter, in which case the last day of that month is
+   * returned. For e.g. 1 month after 2000-01-31 is 2000-02-29.
+   *
+   * @param months Number of months to add, may be negative.
+   * @return The canonical date object.
+   * @throws IllegalArgumentException Thrown if the resulting date is outside the supported range.
+   */
+  public Date plusMonths(final long months) {
+    // Count months from year 0, so the year and month come out of one division
+    final long monthCount = this.year * 12L + this.month.getValue() - 1 + months;
+    final long year = Math.floorDiv(monthCount, 12);
+
+    // Perform range check
+    if (year < SupportedYearRange.YEAR_MIN.getExtrema()
+        || year > SupportedYearRange.YEAR_MAX.getExtrema()) {
+      throw new IllegalArgumentException(DATE_OUT_OF_RANGE_ERROR);
     }
+
+    final Month month = fromInt(Math.floorMod(monthCount, 12) + 1);
+    final int day = Math.min(this.day, month.getDays(DateUtils.isLeapYear((int) year)));
+    return fromYyyyMMdd(((int) year * 100 + month.getValue()) * 100 + day);
+  }
+
+  /**
+   * Returns this date packed in a single int in yyyyMMdd form.
+   *
+   * @return This date as a yyyyMMdd value, for e.g. 19681218.
+   */
+  public int getYyyyMMdd() {
+    return (this.year * 100 + this.month.getValue()) * 100 + this.day;
   }
 
   /**
@@ -131,54 +361,82 @@ public class Date implements Comparable<Date> {
    * @return An integer value representing the day as a number within this year.
    */
   public int getDayOfTheYear() {
-    int dayOfTheYear = this.getDay();
-
-    // Though Enum.values() returns enum values in their natural order, we are sorting them by their
-    // value to ensure any future reordering of values in Month enum doesn't affect this method's
-    // logic
-    Date.Month[] months = Date.Month.values();
-    Arrays.sort(months, Comparator.comparing(Date.Month::getValue));
-
-    for (final Date.Month month : months) {
-      if (month != this.getMonth()) {
-        dayOfTheYear += month.getDays(this.isLeapYear);
-        continue;
-      }
-      break;
-    }
-    return dayOfTheYear;
+    return this.month.getDaysBefore(this.isLeapYear) + this.day;
+  }
+
+  /**
+   * Returns the day of the week of this date.
+   *
+   * @return The day of the week, for e.g. {@link DayOfWeek#TUESDAY} for 1901-01-01.
+   */
+  public DayOfWeek getDayOfWeek() {
+    return DayOfWeek.of(DateUtils.getDayOfWeek(this.epochDay));
+  }
+
+  /**
+   * Returns the ISO week of the week based year of this date. Possible values range from 1 to 53,
+   * the first days of January may fall in the last week of the previous year.
+   *
+   * @return The ISO week of this date.
+   */
+  public int getIsoWeek() {
+    return DateUtils.getIsoWeek(this.epochDay);
+  }
+
+  /**
+   * Returns the quarter of the year of this date. Possible values range from 1 to 4.
+   *
+   * @return The quarter of this date.
+   */
+  public int getQuarter() {
+    return (this.month.getValue() + 2) / 3;
   }
 
   @Override
   public int compareTo(final Date date) {
-    // Return 0 if both dates are the same
-    if (this.equals(date)) {
-      return 0;
-    }
-
-    // If years are same, simply compare day of the year
-    if (this.year == date.getYear()) {
-      return compare(this.getDayOfTheYear() - date.getDayOfTheYear(), 0);
-    }
+    // Day ordinals grow with the date, so comparing them is enough
+    return compare(this.epochDay, date.getEpochDay());
+  }
 
-    // Return -1 if current object's year is older than supplied date's year
-    if (this.year < date.getYear()) {
-      return -1;
+  @Override
+  public boolean equals(final Object object) {
+    // Canonical instances are equal by reference, other instances by their day ordinal
+    if (this == object) {
+      return true;
     }
+    return object instanceof Date && this.epochDay == ((Date) object).epochDay;
+  }
 
-    // Return 1 as current object's year is newer than supplied date's year
-    return 1;
+  @Override
+  public int hashCode() {
+    return this.epochDay;
   }
 
   @Override
   public String toString() {
-    // Return the date as a string in yyyy-MM-dd format
-    return String.format("%04d-%02d-%02d", this.year, this.month.getValue(), this.day);
+    // Return the date as a string in yyyy-MM-dd format, formatted once per canonical instance
+    if (CANONICAL_DATES.get(this.epochDay) != this) {
+      return DateFormatter.format(this);
+    }
+    String string = CanonicalStrings.STRINGS.get(this.epochDay);
+    if (string == null) {
+      // Racing threads may each format the date, but they store equal immutable strings
+      string = DateFormatter.format(this);
+      CanonicalStrings.STRINGS.set(this.epochDay, string);
+    }
+    return string;
+  }
+
+  /** Strings of the canonical instances by epoch day, only allocated once a date is printed. */
+  private static final class CanonicalStrings {
+
+    private static final AtomicReferenceArray<String> STRINGS =
+        new AtomicReferenceArray<>(DAYS_IN_SUPPORTED_RANGE);
   }
 
   @RequiredArgsConstructor
   @Getter
-  private enum SupportedYearRange {
+  enum SupportedYearRange {
     YEAR_MIN(1901),
     YEAR_MAX(2999);
 
@@ -200,17 +458,46 @@ public class Date implements Comparable<Date> {
     NOVEMBER(11, 30),
     DECEMBER(12, 31);
 
+    // Months indexed by their value, index 0 is unused
+    private static final Month[] MONTHS_BY_VALUE = new Month[13];
+
+    // Days in a year before the first day of each month, indexed by month value
+    private static final int[] DAYS_BEFORE_MONTH = new int[13];
+    private static final int[] DAYS_BEFORE_MONTH_IN_A_LEAP_YEAR = new int[13];
+
+    static {
+      for (final Month month : Month.values()) {
+        MONTHS_BY_VALUE[month.getValue()] = month;
+      }
+      for (int value = 2; value < MONTHS_BY_VALUE.length; value++) {
+        final Month previousMonth = MONTHS_BY_VALUE[value - 1];
+        DAYS_BEFORE_MONTH[value] = DAYS_BEFORE_MONTH[value - 1] + previousMonth.getDays(false);
+        DAYS_BEFORE_MONTH_IN_A_LEAP_YEAR[value] =
+            DAYS_BEFORE_MONTH_IN_A_LEAP_YEAR[value - 1] + previousMonth.getDays(true);
+      }
+    }
+
     @Getter private final int value;
     private final int days;
 
     public static Month fromInt(final int month) {
-      for (final Month monthValue : Month.values()) {
-        if (month == monthValue.getValue()) {
-          return monthValue;
-        }
-      }
       // Return null if the given integer value fall outside the month value range
-      return null;
+      if (month < 1 || month >= MONTHS_BY_VALUE.length) {
+        return null;
+      }
+      return MONTHS_BY_VALUE[month];
+    }
+
+    /**
+     * Returns the total number of days in a year before the first day of this month.
+     *
+     * @param isLeapYear True if the days are counted in a leap year.
+     * @return Total number of days before this month.
+     */
+    public int getDaysBefore(final boolean isLeapYear) {
+      return isLeapYear
+          ? DAYS_BEFORE_MONTH_IN_A_LEAP_YEAR[this.value]
+          : DAYS_BEFORE_MONTH[this.value];
     }
 
     public int getDays(final boolean isLeapYear) {
@@ -0,0 +1,162 @@
+package com.myapps.datecalculator.date;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes dates in yyyy-MM-dd format straight into caller supplied buffers, without a format string,
+ * boxing or any intermediate string. Each date takes exactly {@value #DATE_LENGTH} characters.
+ */
+public final class DateFormatter {
+
+  /** Number of characters of a date in yyyy-MM-dd format. */
+  public static final int DATE_LENGTH = DateParser.DATE_LENGTH;
+
+  private static final char SEPARATOR = '-';
+
+  private DateFormatter() {}
+
+  /**
+   * Writes the given date as ASCII bytes at the given offset of a byte buffer.
+   *
+   * @param date A date.
+   * @param bytes A byte buffer with room for the date at the offset.
+   * @param offset Index of the first byte to write.
+   * @return Index following the last written byte.
+   */
+  public static int format(final Date date, final byte[] bytes, final int offset) {
+    checkRoom(date, bytes, bytes == null ? 0 : bytes.length - offset, offset);
+
+    final int year = date.getYear();
+    final int month = date.getMonth().getValue();
+    final int day = date.getDay();
+    bytes[offset] = (byte) ('0' + year / 1000);
+    bytes[offset + 1] = (byte) ('0' + year / 100 % 10);
+    bytes[offset + 2] = (byte) ('0' + year / 10 % 10);
+    bytes[offset + 3] = (byte) ('0' + year % 10);
+    bytes[offset + 4] = SEPARATOR;
+    bytes[offset + 5] = (byte) ('0' + month / 10);
+    bytes[offset + 6] = (byte) ('0' + month % 10);
+    bytes[offset + 7] = SEPARATOR;
+    bytes[offset + 8] = (byte) ('0' + day / 10);
+    bytes[offset + 9] = (byte) ('0' + day % 10);
+    return offset + DATE_LENGTH;
+  }
+
+  /**
+   * Writes the given date at the given offset of a character buffer.
+   *
+   * @param date A date.
+   * @param chars A character buffer with room for the date at the offset.
+   * @param offset Index of the first character to write.
+   * @return Index following the last written character.
+   */
+  public static int format(final Date date, final char[] chars, final int offset) {
+    checkRoom(date, chars, chars == null ? 0 : chars.length - offset, offset);
+
+    final int year = date.getYear();
+    final int month = date.getMonth().getValue();
+    final int day = date.getDay();
+    chars[offset] = (char) ('0' + year / 1000);
+    chars[offset + 1] = (char) ('0' + year / 100 % 10);
+    chars[offset + 2] = (char) ('0' + year / 10 % 10);
+    chars[offset + 3] = (char) ('0' + year % 10);
+    chars[offset + 4] = SEPARATOR;
+    chars[offset + 5] = (char) ('0' + month / 10);
+    chars[offset + 6] = (char) ('0' + month % 10);
+    chars[offset + 7] = SEPARATOR;
+    chars[offset + 8] = (char) ('0' + day / 10);
+    chars[offset + 9] = (char) ('0' + day % 10);
+    return offset + DATE_LENGTH;
+  }
+
+  /**
+   * Writes the given date as ASCII bytes at the position of a byte buffer, and moves the position
+   * past it.
+   *
+   * @param date A date.
+   * @param buffer A byte buffer with room for the date at its position.
+   */
+  public static void format(final Date date, final ByteBuffer buffer) {
+    checkRoom(date, buffer, buffer == null ? 0 : buffer.remaining(), 0);
+
+    if (buffer.hasArray()) {
+      // Write into the backing array, then only move the position
+      final int position = buffer.position();
+      format(date, buffer.array(), buffer.arrayOffset() + position);
+      buffer.position(position + DATE_LENGTH);
+      return;
+    }
+
+    final int year = date.getYear();
+    final int month = date.getMonth().getValue();
+    final int day = date.getDay();
+    buffer
+        .put((byte) ('0' + year / 1000))
+        .put((byte) ('0' + year / 100 % 10))
+        .put((byte) ('0' + year / 10 % 10))
+        .put((byte) ('0' + year % 10))
+        .put((byte) SEPARATOR)
+        .put((byte) ('0' + month / 10))
+        .put((byte) ('0' + month % 10))
+        .put((byte) SEPARATOR)
+        .put((byte) ('0' + day / 10))
+        .put((byte) ('0' + day % 10));
+  }
+
+  /**
+   * Appends the given date to an appendable, for e.g. a StringBuilder or a Writer.
+   *
+   * @param date A date.
+   * @param appendable Receives the date.
+   * @throws IOException Thrown if the appendable fails to append.
+   */
+  public static void format(final Date date, final Appendable appendable) throws IOException {
+    // Perform null check
+    if (date == null || appendable == null) {
+      throw new IllegalArgumentException("Date and appendable must not be null!");
+    }
+
+    final int year = date.getYear();
+    final int month = date.getMonth().getValue();
+    final int day = date.getDay();
+    appendable
+        .append((char) ('0' + year / 1000))
+        .append((char) ('0' + year / 100 % 10))
+        .append((char) ('0' + year / 10 % 10))
+        .append((char) ('0' + year % 10))
+        .append(SEPARATOR)
+        .append((char) ('0' + month / 10))
+        .append((char) ('0' + month % 10))
+        .append(SEPARATOR)
+        .append((char) ('0' + day / 10))
+        .append((char) ('0' + day % 10));
+  }
+
+  /**
+   * Returns a new string holding the given date in yyyy-MM-dd format.
+   *
+   * @param date A date.
+   * @return The date as a string, for e.g. 1968-12-18.
+   */
+  public static String format(final Date date) {
+    final byte[] bytes = new byte[DATE_LENGTH];
+    format(date, bytes, 0);
+
+    // Latin-1 bytes are copied as they are into a compact string, without decoding
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  private static void checkRoom(
+      final Date date, final Object buffer, final int room, final int offset) {
+    // Perform null check
+    if (date == null || buffer == null) {
+      throw new IllegalArgumentException("Date and buffer must not be null!");
+    }
+    // Perform bounds check
+    if (offset < 0 || room < DATE_LENGTH) {
+      throw new IllegalArgumentException("Buffer must have room for 10 characters at the offset!");
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.myapps.datecalculator.date;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reasons for which {@link DateParser} rejects a date. The constants are shared flyweights, so
+ * reporting a rejection neither fills in a stack trace nor formats a message.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum DateParseFailure {
+  INVALID_FORMAT(DateParser.INVALID_FORMAT),
+  YEAR_OUT_OF_RANGE(DateParser.YEAR_OUT_OF_RANGE),
+  MONTH_OUT_OF_RANGE(DateParser.MONTH_OUT_OF_RANGE),
+  DAY_UNDERFLOW(DateParser.DAY_UNDERFLOW),
+  DAY_OVERFLOW(DateParser.DAY_OVERFLOW);
+
+  // Codes start at 1 and follow the declaration order
+  private static final DateParseFailure[] BY_CODE = values();
+
+  // Reason code as encoded in the low bits of an invalid parse result
+  private final int code;
+
+  static DateParseFailure fromCode(final int code) {
+    // Perform range check
+    if (code < 1 || code > BY_CODE.length) {
+      throw new IllegalArgumentException("Failure code must be between 1-" + BY_CODE.length + "!");
+    }
+    return BY_CODE[code - 1];
+  }
+}
@@ -0,0 +1,313 @@
+package com.myapps.datecalculator.date;
+
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import com.myapps.datecalculator.metrics.DateMetrics;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.nio.ByteBuffer;
+
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.capitalize;
+
+/**
+ * A regex-free parser for dates in yyyy-MM-dd format. It checks fixed character positions, converts
+ * digits arithmetically and validates the date in a single pass without allocating.
+ *
+ * <p>Parse methods return an int result instead of throwing. A valid date is returned as a positive
+ * yyyyMMdd value, for e.g. 19681218. An invalid date is returned as a negative value, whose reason
+ * is available through {@link #getFailure(int)}. The detailed message is only built when asked for
+ * with {@link #getMessage(int)}, or when the result is turned into the matching exception with
+ * {@link #requireValid(int)}.
+ *
+ * <p>Parses are counted by outcome and timed by {@link DateMetrics} when metrics are enabled.
+ */
+public final class DateParser {
+
+  // Length of a date in yyyy-MM-dd format and positions of its separators
+  static final int DATE_LENGTH = 10;
+  private static final int YEAR_SEPARATOR_POSITION = 4;
+  private static final int MONTH_SEPARATOR_POSITION = 7;
+  private static final char SEPARATOR = '-';
+
+  // Reasons for a date to be rejected, encoded in the low bits of an invalid result
+  static final int INVALID_FORMAT = 1;
+  static final int YEAR_OUT_OF_RANGE = 2;
+  static final int MONTH_OUT_OF_RANGE = 3;
+  static final int DAY_UNDERFLOW = 4;
+  static final int DAY_OVERFLOW = 5;
+  private static final int REASON_BITS = 3;
+  private static final int REASON_MASK = (1 << REASON_BITS) - 1;
+
+  private DateParser() {}
+
+  /**
+   * Parses the given character sequence as a date in yyyy-MM-dd format.
+   *
+   * @param date A date in the format yyyy-MM-dd.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  public static int parse(final CharSequence date) {
+    final long startTime = DateMetrics.startTimer();
+    return DateMetrics.recordParse(startTime, read(date));
+  }
+
+  /**
+   * Parses the ten characters starting at the given offset of a character sequence as a date in
+   * yyyy-MM-dd format.
+   *
+   * @param chars A character sequence holding the date.
+   * @param offset Index of the first character of the date within the sequence.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  public static int parse(final CharSequence chars, final int offset) {
+    final long startTime = DateMetrics.startTimer();
+    return DateMetrics.recordParse(startTime, read(chars, offset));
+  }
+
+  /**
+   * Parses the ten characters starting at the given offset as a date in yyyy-MM-dd format.
+   *
+   * @param chars A character buffer holding the date.
+   * @param offset Index of the first character of the date within the buffer.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  public static int parse(final char[] chars, final int offset) {
+    final long startTime = DateMetrics.startTimer();
+    return DateMetrics.recordParse(startTime, read(chars, offset));
+  }
+
+  /**
+   * Parses the ten ASCII bytes starting at the given offset as a date in yyyy-MM-dd format.
+   *
+   * @param bytes A byte buffer holding the date as ASCII characters.
+   * @param offset Index of the first byte of the date within the buffer.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  public static int parse(final byte[] bytes, final int offset) {
+    final long startTime = DateMetrics.startTimer();
+    return DateMetrics.recordParse(startTime, read(bytes, offset));
+  }
+
+  /**
+   * Parses the ten ASCII bytes starting at the given absolute index of a byte buffer as a date in
+   * yyyy-MM-dd format. The position and limit of the buffer are left untouched.
+   *
+   * @param buffer A byte buffer, for e.g. a memory mapped file, holding the date as ASCII
+   *     characters.
+   * @param offset Absolute index of the first byte of the date within the buffer.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  public static int parse(final ByteBuffer buffer, final int offset) {
+    final long startTime = DateMetrics.startTimer();
+    return DateMetrics.recordParse(startTime, read(buffer, offset));
+  }
+
+  /**
+   * Returns true if the given parse result represents a valid date.
+   *
+   * @param result A result returned by one of the parse methods.
+   * @return True if the result is a yyyyMMdd value of a valid date.
+   */
+  public static boolean isValid(final int result) {
+    return result > 0;
+  }
+
+  /**
+   * Returns the reason for which the date was rejected.
+   *
+   * @param result A result returned by one of the parse methods.
+   * @return The reason of the rejection, or null if the result represents a valid date.
+   * @throws IllegalArgumentException Thrown if the value is not a result of a parse method.
+   */
+  public static DateParseFailure getFailure(final int result) {
+    if (isValid(result)) {
+      return null;
+    }
+    // Perform range check, no parse method returns 0
+    if (result == 0) {
+      throw new IllegalArgumentException("Result must be returned by a parse method!");
+    }
+    return DateParseFailure.fromCode(-result & REASON_MASK);
+  }
+
+  /**
+   * Returns the detailed message describing why the date was rejected.
+   *
+   * @param result A result returned by one of the parse methods.
+   * @return The message of the rejection, or null if the result represents a valid date.
+   */
+  public static String getMessage(final int result) {
+    final DateParseFailure failure = getFailure(result);
+    if (failure == null) {
+      return null;
+    }
+
+    switch (failure) {
+      case INVALID_FORMAT:
+        return "Invalid date format! Date should be in yyyy-MM-dd format. For e.g. 1968-12-18.";
+      case YEAR_OUT_OF_RANGE:
+        return "Invalid date! Year must be between 1901-2999.";
+      case MONTH_OUT_OF_RANGE:
+        return "Invalid date! Month must be between 01-12.";
+      case DAY_UNDERFLOW:
+        return "Invalid date! Day must be more than 0.";
+      default:
+        // Year and month of the rejected date are kept above the reason bits
+        final int yearAndMonth = -result >>> REASON_BITS;
+        final int year = yearAndMonth / 100;
+        final Date.Month month = Date.Month.fromInt(yearAndMonth % 100);
+        return format(
+            "Invalid date! There cannot be more than %s days in the month of %s of year %d",
+            month.getDays(DateUtils.isLeapYear(year)),
+            capitalize(month.toString().toLowerCase()),
+            year);
+    }
+  }
+
+  /**
+   * Returns the given parse result if it represents a valid date, otherwise throws the exception
+   * describing why the date was rejected.
+   *
+   * @param result A result returned by one of the parse methods.
+   * @return The yyyyMMdd value of the valid date.
+   * @throws InvalidDateFormatException Thrown if the date was not in the format yyyy-MM-dd.
+   * @throws InvalidDateException Thrown if the date was an invalid date, or it was outside the
+   *     supported date range.
+   */
+  public static int requireValid(final int result)
+      throws InvalidDateFormatException, InvalidDateException {
+    final DateParseFailure failure = getFailure(result);
+    if (failure == null) {
+      return result;
+    }
+    if (failure == DateParseFailure.INVALID_FORMAT) {
+      throw new InvalidDateFormatException();
+    }
+    throw new InvalidDateException(getMessage(result));
+  }
+
+  /**
+   * Validates the given date fields.
+   *
+   * @param year Year of the date.
+   * @param month Month of the date, from 1 to 12.
+   * @param day Day of the month.
+   * @return A positive yyyyMMdd value if the date is valid, otherwise a negative value.
+   */
+  static int validate(final int year, final int month, final int day) {
+    if (year < Date.SupportedYearRange.YEAR_MIN.getExtrema()
+        || year > Date.SupportedYearRange.YEAR_MAX.getExtrema()) {
+      return invalid(YEAR_OUT_OF_RANGE);
+    }
+
+    final Date.Month monthValue = Date.Month.fromInt(month);
+    if (monthValue == null) {
+      return invalid(MONTH_OUT_OF_RANGE);
+    }
+
+    if (day < 1) {
+      return invalid(DAY_UNDERFLOW);
+    }
+    if (day > monthValue.getDays(DateUtils.isLeapYear(year))) {
+      return -(((year * 100 + month) << REASON_BITS) | DAY_OVERFLOW);
+    }
+    return (year * 100 + month) * 100 + day;
+  }
+
+  private static int read(final CharSequence date) {
+    if (date.length() != DATE_LENGTH) {
+      return invalid(INVALID_FORMAT);
+    }
+
+    int digits = 0;
+    for (int position = 0; position < DATE_LENGTH; position++) {
+      digits = append(digits, position, date.charAt(position));
+      if (digits < 0) {
+        return invalid(INVALID_FORMAT);
+      }
+    }
+    return validate(digits);
+  }
+
+  private static int read(final CharSequence chars, final int offset) {
+    if (offset < 0 || chars.length() - offset < DATE_LENGTH) {
+      return invalid(INVALID_FORMAT);
+    }
+
+    int digits = 0;
+    for (int position = 0; position < DATE_LENGTH; position++) {
+      digits = append(digits, position, chars.charAt(offset + position));
+      if (digits < 0) {
+        return invalid(INVALID_FORMAT);
+      }
+    }
+    return validate(digits);
+  }
+
+  private static int read(final char[] chars, final int offset) {
+    if (offset < 0 || chars.length - offset < DATE_LENGTH) {
+      return invalid(INVALID_FORMAT);
+    }
+
+    int digits = 0;
+    for (int position = 0; position < DATE_LENGTH; position++) {
+      digits = append(digits, position, chars[offset + position]);
+      if (digits < 0) {
+        return invalid(INVALID_FORMAT);
+      }
+    }
+    return validate(digits);
+  }
+
+  private static int read(final byte[] bytes, final int offset) {
+    if (offset < 0 || bytes.length - offset < DATE_LENGTH) {
+      return invalid(INVALID_FORMAT);
+    }
+
+    int digits = 0;
+    for (int position = 0; position < DATE_LENGTH; position++) {
+      digits = append(digits, position, bytes[offset + position]);
+      if (digits < 0) {
+        return invalid(INVALID_FORMAT);
+      }
+    }
+    return validate(digits);
+  }
+
+  private static int read(final ByteBuffer buffer, final int offset) {
+    if (offset < 0 || buffer.limit() - offset < DATE_LENGTH) {
+      return invalid(INVALID_FORMAT);
+    }
+
+    int digits = 0;
+    for (int position = 0; position < DATE_LENGTH; position++) {
+      digits = append(digits, position, buffer.get(offset + position));
+      if (digits < 0) {
+        return invalid(INVALID_FORMAT);
+      }
+    }
+    return validate(digits);
+  }
+
+  private static int validate(final int digits) {
+    return validate(digits / 10000, digits / 100 % 100, digits % 100);
+  }
+
+  private static int append(final int digits, final int position, final int character) {
+    // Separators are only allowed, and required, at their fixed positions
+    if (position == YEAR_SEPARATOR_POSITION || position == MONTH_SEPARATOR_POSITION) {
+      return character == SEPARATOR ? digits : -1;
+    }
+
+    final int digit = character - '0';
+    if (digit < 0 || digit > 9) {
+      return -1;
+    }
+    return digits * 10 + digit;
+  }
+
+  private static int invalid(final int reason) {
+    return -reason;
+  }
+}
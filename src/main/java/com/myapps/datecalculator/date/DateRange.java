@@ -0,0 +1,278 @@
+package com.myapps.datecalculator.date;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy range of consecutive dates, from a start date inclusive to an end date exclusive. Only the
+ * epoch days of both ends are kept, so a range is sized and counted without materialising it, and
+ * its dates are the canonical instances handed out one at a time.
+ *
+ * <p>Streams of a range split evenly in two for parallel processing, with exact sizes for every
+ * part.
+ */
+public final class DateRange implements Iterable<Date> {
+
+  private static final int CHARACTERISTICS =
+      Spliterator.ORDERED
+          | Spliterator.DISTINCT
+          | Spliterator.SORTED
+          | Spliterator.NONNULL
+          | Spliterator.IMMUTABLE
+          | Spliterator.SIZED
+          | Spliterator.SUBSIZED;
+
+  private final int startEpochDay;
+  private final int endEpochDay;
+
+  private DateRange(final int startEpochDay, final int endEpochDay) {
+    this.startEpochDay = startEpochDay;
+    this.endEpochDay = endEpochDay;
+  }
+
+  /**
+   * Returns the range of dates from the start date, inclusive, to the end date, exclusive.
+   *
+   * @param startDate First date of the range.
+   * @param endDate Date following the last date of the range.
+   * @return The range of dates.
+   */
+  public static DateRange of(final Date startDate, final Date endDate) {
+    // Perform null check
+    if (startDate == null || endDate == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+    return ofEpochDays(startDate.getEpochDay(), endDate.getEpochDay());
+  }
+
+  /**
+   * Returns the range of dates given as days since 1901-01-01, from the start day, inclusive, to
+   * the end day, exclusive.
+   *
+   * @param startEpochDay First day of the range as days since 1901-01-01.
+   * @param endEpochDay Day following the last day of the range as days since 1901-01-01.
+   * @return The range of dates.
+   */
+  public static DateRange ofEpochDays(final int startEpochDay, final int endEpochDay) {
+    // Perform range check, the end may be one past the last supported day
+    if (startEpochDay < 0 || endEpochDay > Date.DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch days must be between 0-" + Date.DAYS_IN_SUPPORTED_RANGE + "!");
+    }
+    if (startEpochDay > endEpochDay) {
+      throw new IllegalArgumentException("Start date must not be after the end date!");
+    }
+    return new DateRange(startEpochDay, endEpochDay);
+  }
+
+  /**
+   * Returns the full days between two dates, as a range excluding both dates. Its size is the same
+   * as {@link com.myapps.datecalculator.util.DateUtils#getFullDaysBetween(Date, Date)}.
+   *
+   * @param firstDate A from date object. This need not be older than the to date object.
+   * @param secondDate A to date object. This need not be newer than the from date object.
+   * @return The range of full days between the two given dates.
+   */
+  public static DateRange fullDaysBetween(final Date firstDate, final Date secondDate) {
+    // Perform null check
+    if (firstDate == null || secondDate == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+
+    final int start = Math.min(firstDate.getEpochDay(), secondDate.getEpochDay()) + 1;
+    final int end = Math.max(firstDate.getEpochDay(), secondDate.getEpochDay());
+    return new DateRange(Math.min(start, end), end);
+  }
+
+  /**
+   * Returns the number of dates in this range.
+   *
+   * @return Number of dates in this range.
+   */
+  public int size() {
+    return this.endEpochDay - this.startEpochDay;
+  }
+
+  /**
+   * Returns true if this range holds no date.
+   *
+   * @return True if this range is empty.
+   */
+  public boolean isEmpty() {
+    return this.startEpochDay == this.endEpochDay;
+  }
+
+  /**
+   * Returns true if the given date falls in this range.
+   *
+   * @param date A date.
+   * @return True if the date is in this range.
+   */
+  public boolean contains(final Date date) {
+    return date != null
+        && date.getEpochDay() >= this.startEpochDay
+        && date.getEpochDay() < this.endEpochDay;
+  }
+
+  /**
+   * Returns the first date of this range as days since 1901-01-01.
+   *
+   * @return The start of this range, inclusive.
+   */
+  public int getStartEpochDay() {
+    return this.startEpochDay;
+  }
+
+  /**
+   * Returns the date following the last date of this range as days since 1901-01-01.
+   *
+   * @return The end of this range, exclusive.
+   */
+  public int getEndEpochDay() {
+    return this.endEpochDay;
+  }
+
+  /**
+   * Returns a sequential stream of the dates of this range.
+   *
+   * @return A stream of canonical dates, in ascending order.
+   */
+  public Stream<Date> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream of the dates of this range.
+   *
+   * @return A parallel stream of canonical dates, in ascending order.
+   */
+  public Stream<Date> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a stream of the epoch days of this range, which does not touch any date object.
+   *
+   * @return A stream of days since 1901-01-01, in ascending order.
+   */
+  public IntStream epochDays() {
+    return IntStream.range(this.startEpochDay, this.endEpochDay);
+  }
+
+  @Override
+  public Iterator<Date> iterator() {
+    return new Iterator<>() {
+      private int next = startEpochDay;
+
+      @Override
+      public boolean hasNext() {
+        return this.next < endEpochDay;
+      }
+
+      @Override
+      public Date next() {
+        if (this.next >= endEpochDay) {
+          throw new NoSuchElementException("Range has no more dates!");
+        }
+        return Date.ofEpochDay(this.next++);
+      }
+    };
+  }
+
+  @Override
+  public Spliterator<Date> spliterator() {
+    return new DateSpliterator(this.startEpochDay, this.endEpochDay);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof DateRange)) {
+      return false;
+    }
+    final DateRange range = (DateRange) object;
+    return this.startEpochDay == range.startEpochDay && this.endEpochDay == range.endEpochDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * this.startEpochDay + this.endEpochDay;
+  }
+
+  @Override
+  public String toString() {
+    // Print the first and the last dates of the range, both inclusive
+    if (isEmpty()) {
+      return "[]";
+    }
+    return "["
+        + Date.ofEpochDay(this.startEpochDay)
+        + ".."
+        + Date.ofEpochDay(this.endEpochDay - 1)
+        + "]";
+  }
+
+  private static final class DateSpliterator implements Spliterator<Date> {
+    private int next;
+    private final int end;
+
+    DateSpliterator(final int next, final int end) {
+      this.next = next;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Date> action) {
+      if (this.next >= this.end) {
+        return false;
+      }
+      action.accept(Date.ofEpochDay(this.next++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Date> action) {
+      final int end = this.end;
+      for (int epochDay = this.next; epochDay < end; epochDay++) {
+        action.accept(Date.ofEpochDay(epochDay));
+      }
+      this.next = end;
+    }
+
+    @Override
+    public Spliterator<Date> trySplit() {
+      // Hand the first half over, both halves keep an exact size
+      final int middle = (this.next + this.end) >>> 1;
+      if (middle <= this.next) {
+        return null;
+      }
+      final Spliterator<Date> prefix = new DateSpliterator(this.next, middle);
+      this.next = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.end - this.next;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Date> getComparator() {
+      // Dates are in their natural order
+      return null;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.myapps.datecalculator.io;
+
+import java.io.IOException;
+
+/** Receives date pairs, in input order, as they are read from a source of records. */
+@FunctionalInterface
+public interface DatePairConsumer {
+
+  /**
+   * Accepts the next date pair.
+   *
+   * @param pair The pair as packed by {@link DatePairs}, or {@link DatePairs#REJECTED} if the
+   *     record was not a valid pair of dates.
+   * @throws IOException Thrown if the consumer fails to pass the pair on.
+   */
+  void accept(long pair) throws IOException;
+}
@@ -0,0 +1,167 @@
+package com.myapps.datecalculator.io;
+
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Streams date pair records in the format yyyy-MM-dd,yyyy-MM-dd, one per line, and writes the full
+ * days between each pair as one line per record, in input order. Rejected records are written as
+ * empty lines, so output lines stay aligned with input lines.
+ *
+ * <p>Input and output go through fixed size buffers, or fixed size memory mapped segments for input
+ * files, so memory use does not grow with the size of the input. A record longer than the input
+ * buffer is rejected.
+ */
+public final class DatePairCsvProcessor {
+
+  static final int BUFFER_SIZE = 1 << 16;
+  private static final byte LINE_FEED = '\n';
+
+  // Full days between supported dates never have more than 6 digits, plus the line feed
+  private static final int MAX_RESULT_LENGTH = 7;
+
+  private DatePairCsvProcessor() {}
+
+  /**
+   * Reads every record of the input channel and writes its result to the output channel.
+   *
+   * @param input Channel to read the date pair records from.
+   * @param output Channel to write the full days between each pair to.
+   * @return Counts of the processed records and the time it took.
+   * @throws IOException Thrown if reading from or writing to either channel fails.
+   */
+  public static ProcessingSummary process(
+      final ReadableByteChannel input, final WritableByteChannel output) throws IOException {
+    final long startTime = System.nanoTime();
+    final ResultWriter writer = new ResultWriter(output);
+    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    final byte[] bytes = buffer.array();
+
+    // Set while skipping the remainder of a record that did not fit in the buffer
+    boolean skippingRecord = false;
+    int scanFrom = 0;
+
+    while (input.read(buffer) != -1) {
+      final int end = buffer.position();
+      int recordStart = 0;
+
+      for (int i = scanFrom; i < end; i++) {
+        if (bytes[i] != LINE_FEED) {
+          continue;
+        }
+        writer.write(
+            skippingRecord
+                ? DatePairs.REJECTED
+                : DatePairs.parse(bytes, recordStart, i - recordStart));
+        skippingRecord = false;
+        recordStart = i + 1;
+      }
+
+      if (recordStart == 0 && end == bytes.length) {
+        // The buffer is full without a line feed, drop what we have of this record
+        skippingRecord = true;
+        buffer.clear();
+        scanFrom = 0;
+      } else {
+        // Move the incomplete record to the start of the buffer and read the rest after it
+        buffer.flip();
+        buffer.position(recordStart);
+        buffer.compact();
+        scanFrom = buffer.position();
+      }
+    }
+
+    // The last record may not end with a line feed
+    if (buffer.position() > 0 || skippingRecord) {
+      writer.write(
+          skippingRecord ? DatePairs.REJECTED : DatePairs.parse(bytes, 0, buffer.position()));
+    }
+    writer.flush();
+
+    return new ProcessingSummary(
+        writer.getRows(), writer.getRejectedRows(), System.nanoTime() - startTime);
+  }
+
+  /**
+   * Reads every record of the input file, memory mapped, and writes its result to the output
+   * channel.
+   *
+   * @param input File holding one date pair record per line.
+   * @param output Channel to write the full days between each pair to.
+   * @return Counts of the processed records and the time it took.
+   * @throws IOException Thrown if reading the file or writing to the channel fails.
+   */
+  public static ProcessingSummary process(final Path input, final WritableByteChannel output)
+      throws IOException {
+    final ResultWriter writer = new ResultWriter(output);
+    final ProcessingSummary summary = MappedDatePairReader.read(input, writer::write);
+    writer.flush();
+    return summary;
+  }
+
+  /** Batches results into a buffer and writes it to the channel only when it is full. */
+  static final class ResultWriter {
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private long rows;
+    private long rejectedRows;
+
+    ResultWriter(final WritableByteChannel channel) {
+      this.channel = channel;
+    }
+
+    void write(final long pair) throws IOException {
+      if (this.buffer.remaining() < MAX_RESULT_LENGTH) {
+        flush();
+      }
+
+      this.rows++;
+      if (pair == DatePairs.REJECTED) {
+        this.rejectedRows++;
+      } else {
+        writeDigits(
+            DateUtils.getFullDaysBetween(
+                DatePairs.getFirstEpochDay(pair), DatePairs.getSecondEpochDay(pair)));
+      }
+      this.buffer.put(LINE_FEED);
+    }
+
+    void flush() throws IOException {
+      this.buffer.flip();
+      while (this.buffer.hasRemaining()) {
+        this.channel.write(this.buffer);
+      }
+      this.buffer.clear();
+    }
+
+    long getRows() {
+      return this.rows;
+    }
+
+    long getRejectedRows() {
+      return this.rejectedRows;
+    }
+
+    private void writeDigits(final int value) {
+      // Count the digits first, then fill them in from the last one
+      int length = 1;
+      for (int remainder = value / 10; remainder > 0; remainder /= 10) {
+        length++;
+      }
+
+      final int start = this.buffer.position();
+      int remainder = value;
+      for (int i = start + length - 1; i >= start; i--) {
+        this.buffer.put(i, (byte) ('0' + remainder % 10));
+        remainder /= 10;
+      }
+      this.buffer.position(start + length);
+    }
+  }
+}
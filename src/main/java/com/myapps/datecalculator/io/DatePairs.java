@@ -0,0 +1,126 @@
+package com.myapps.datecalculator.io;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateParser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses date pair records in the format yyyy-MM-dd,yyyy-MM-dd without allocating. A parsed pair is
+ * returned as a long holding the epoch days of both dates, read back with {@link
+ * #getFirstEpochDay(long)} and {@link #getSecondEpochDay(long)}.
+ */
+public final class DatePairs {
+
+  // Returned for records that are not a valid pair of dates
+  public static final long REJECTED = -1L;
+
+  // Length of a record in the format yyyy-MM-dd,yyyy-MM-dd and position of its separator
+  public static final int RECORD_LENGTH = 21;
+  private static final int SEPARATOR_POSITION = 10;
+  private static final char SEPARATOR = ',';
+
+  private DatePairs() {}
+
+  /**
+   * Parses the given ASCII bytes as a date pair record. A trailing carriage return is ignored.
+   *
+   * @param bytes A byte buffer holding the record.
+   * @param offset Index of the first byte of the record within the buffer.
+   * @param length Length of the record, excluding the line feed.
+   * @return The parsed pair, or {@link #REJECTED} if the record is not a valid pair of dates.
+   */
+  public static long parse(final byte[] bytes, final int offset, final int length) {
+    final int recordLength = trimCarriageReturn(bytes, offset, length);
+    if (recordLength != RECORD_LENGTH || bytes[offset + SEPARATOR_POSITION] != SEPARATOR) {
+      return REJECTED;
+    }
+    return pair(
+        DateParser.parse(bytes, offset), DateParser.parse(bytes, offset + SEPARATOR_POSITION + 1));
+  }
+
+  /**
+   * Parses the ASCII bytes at the given absolute index of a byte buffer as a date pair record. A
+   * trailing carriage return is ignored. The position and limit of the buffer are left untouched.
+   *
+   * @param buffer A byte buffer, for e.g. a memory mapped file, holding the record.
+   * @param offset Absolute index of the first byte of the record within the buffer.
+   * @param length Length of the record, excluding the line feed.
+   * @return The parsed pair, or {@link #REJECTED} if the record is not a valid pair of dates.
+   */
+  public static long parse(final ByteBuffer buffer, final int offset, final int length) {
+    int recordLength = length;
+    if (recordLength > 0 && buffer.get(offset + recordLength - 1) == '\r') {
+      recordLength--;
+    }
+    if (recordLength != RECORD_LENGTH || buffer.get(offset + SEPARATOR_POSITION) != SEPARATOR) {
+      return REJECTED;
+    }
+    return pair(
+        DateParser.parse(buffer, offset),
+        DateParser.parse(buffer, offset + SEPARATOR_POSITION + 1));
+  }
+
+  /**
+   * Parses the given character sequence as a date pair record. A trailing carriage return is
+   * ignored.
+   *
+   * @param record A record in the format yyyy-MM-dd,yyyy-MM-dd.
+   * @return The parsed pair, or {@link #REJECTED} if the record is not a valid pair of dates.
+   */
+  public static long parse(final CharSequence record) {
+    int length = record.length();
+    if (length > 0 && record.charAt(length - 1) == '\r') {
+      length--;
+    }
+    if (length != RECORD_LENGTH || record.charAt(SEPARATOR_POSITION) != SEPARATOR) {
+      return REJECTED;
+    }
+    return pair(DateParser.parse(record, 0), DateParser.parse(record, SEPARATOR_POSITION + 1));
+  }
+
+  /**
+   * Returns the epoch day of the first date of the given pair.
+   *
+   * @param pair A pair returned by one of the parse methods.
+   * @return Number of days since 1901-01-01 of the first date.
+   */
+  public static int getFirstEpochDay(final long pair) {
+    return (int) (pair >>> Integer.SIZE);
+  }
+
+  /**
+   * Returns the epoch day of the second date of the given pair.
+   *
+   * @param pair A pair returned by one of the parse methods.
+   * @return Number of days since 1901-01-01 of the second date.
+   */
+  public static int getSecondEpochDay(final long pair) {
+    return (int) pair;
+  }
+
+  /**
+   * Packs the given epoch days into a pair.
+   *
+   * @param firstEpochDay Number of days since 1901-01-01 of the first date.
+   * @param secondEpochDay Number of days since 1901-01-01 of the second date.
+   * @return The pair holding both epoch days.
+   */
+  public static long toPair(final int firstEpochDay, final int secondEpochDay) {
+    return ((long) firstEpochDay << Integer.SIZE) | (secondEpochDay & 0xFFFFFFFFL);
+  }
+
+  private static long pair(final int firstResult, final int secondResult) {
+    if (!DateParser.isValid(firstResult) || !DateParser.isValid(secondResult)) {
+      return REJECTED;
+    }
+    return toPair(Date.toEpochDay(firstResult), Date.toEpochDay(secondResult));
+  }
+
+  private static int trimCarriageReturn(final byte[] bytes, final int offset, final int length) {
+    if (length > 0 && bytes[offset + length - 1] == '\r') {
+      return length - 1;
+    }
+    return length;
+  }
+}
@@ -0,0 +1,130 @@
+package com.myapps.datecalculator.io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads date pair records in the format yyyy-MM-dd,yyyy-MM-dd, one per line, from a file by memory
+ * mapping it segment by segment. Dates are parsed straight from the mapped bytes, so no string is
+ * created per record whatever the size of the file.
+ *
+ * <p>Segments are cut at record boundaries. A record longer than a segment is rejected.
+ */
+public final class MappedDatePairReader {
+
+  // Size of the segments mapped at once
+  public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+  private static final byte LINE_FEED = '\n';
+
+  private MappedDatePairReader() {}
+
+  /**
+   * Reads every record of the given file and passes it to the consumer, in file order.
+   *
+   * @param file File holding one date pair record per line.
+   * @param consumer Receives the pair of each record.
+   * @return Counts of the read records and the time it took.
+   * @throws IOException Thrown if the file cannot be read, or the consumer fails.
+   */
+  public static ProcessingSummary read(final Path file, final DatePairConsumer consumer)
+      throws IOException {
+    return read(file, DEFAULT_SEGMENT_SIZE, consumer);
+  }
+
+  /**
+   * Reads every record of the given file and passes it to the consumer, in file order.
+   *
+   * @param file File holding one date pair record per line.
+   * @param segmentSize Number of bytes mapped at once.
+   * @param consumer Receives the pair of each record.
+   * @return Counts of the read records and the time it took.
+   * @throws IOException Thrown if the file cannot be read, or the consumer fails.
+   */
+  public static ProcessingSummary read(
+      final Path file, final int segmentSize, final DatePairConsumer consumer) throws IOException {
+    // Perform size check
+    if (segmentSize <= DatePairs.RECORD_LENGTH) {
+      throw new IllegalArgumentException("Segment size must be more than a record!");
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel, 0, channel.size(), segmentSize, consumer);
+    }
+  }
+
+  /**
+   * Reads the records between the given positions of a file channel and passes them to the
+   * consumer, in file order. Both positions must be record boundaries.
+   *
+   * @param channel Channel of a file holding one date pair record per line.
+   * @param start Position of the first byte to read.
+   * @param end Position after the last byte to read.
+   * @param segmentSize Number of bytes mapped at once.
+   * @param consumer Receives the pair of each record.
+   * @return Counts of the read records and the time it took.
+   * @throws IOException Thrown if the file cannot be read, or the consumer fails.
+   */
+  static ProcessingSummary read(
+      final FileChannel channel,
+      final long start,
+      final long end,
+      final int segmentSize,
+      final DatePairConsumer consumer)
+      throws IOException {
+    final long startTime = System.nanoTime();
+    long rows = 0;
+    long rejectedRows = 0;
+
+    // Set while skipping the remainder of a record that did not fit in a segment
+    boolean skippingRecord = false;
+    long segmentStart = start;
+
+    while (segmentStart < end) {
+      final int segmentLength = (int) Math.min(segmentSize, end - segmentStart);
+      final MappedByteBuffer segment =
+          channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentLength);
+      final boolean lastSegment = segmentStart + segmentLength == end;
+      int recordStart = 0;
+
+      for (int i = 0; i < segmentLength; i++) {
+        if (segment.get(i) != LINE_FEED) {
+          continue;
+        }
+        final long pair =
+            skippingRecord
+                ? DatePairs.REJECTED
+                : DatePairs.parse(segment, recordStart, i - recordStart);
+        consumer.accept(pair);
+        rows++;
+        rejectedRows += pair == DatePairs.REJECTED ? 1 : 0;
+        skippingRecord = false;
+        recordStart = i + 1;
+      }
+
+      if (lastSegment && recordStart < segmentLength) {
+        // The last record may not end with a line feed
+        final long pair =
+            skippingRecord
+                ? DatePairs.REJECTED
+                : DatePairs.parse(segment, recordStart, segmentLength - recordStart);
+        consumer.accept(pair);
+        rows++;
+        rejectedRows += pair == DatePairs.REJECTED ? 1 : 0;
+        recordStart = segmentLength;
+      } else if (recordStart == 0 && !lastSegment) {
+        // No line feed in the whole segment, drop what we have of this record
+        skippingRecord = true;
+        recordStart = segmentLength;
+      }
+
+      // The next segment starts with the record left incomplete by this one
+      segmentStart += recordStart;
+    }
+
+    return new ProcessingSummary(rows, rejectedRows, System.nanoTime() - startTime);
+  }
+}
@@ -0,0 +1,228 @@
+package com.myapps.datecalculator.io;
+
+import com.myapps.datecalculator.util.DateUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes full days between date pairs on a {@link ForkJoinPool}, either from a file of records or
+ * from arrays of epoch days.
+ *
+ * <p>Files are partitioned into chunks aligned to record boundaries. Chunk results are written in
+ * input order, so the output is byte-identical to {@link DatePairCsvProcessor}. Only a bounded
+ * number of chunks is in flight at once, which keeps memory use independent of the input size.
+ */
+public final class ParallelDatePairProcessor {
+
+  // Size of the file chunks processed by a single task
+  public static final int DEFAULT_CHUNK_SIZE = 16 << 20;
+
+  // Number of array elements below which a task computes its slice instead of splitting it
+  private static final int ARRAY_SLICE_THRESHOLD = 1 << 16;
+
+  private static final byte LINE_FEED = '\n';
+
+  private ParallelDatePairProcessor() {}
+
+  /**
+   * Reads every record of the input file and writes its result to the output channel, computing
+   * chunks of the file in parallel on the given pool.
+   *
+   * @param input File holding one date pair record per line.
+   * @param output Channel to write the full days between each pair to.
+   * @param pool Pool to compute the chunks on, its parallelism sets the number of threads used.
+   * @return Counts of the processed records and the time it took.
+   * @throws IOException Thrown if reading the file or writing to the channel fails.
+   */
+  public static ProcessingSummary process(
+      final Path input, final WritableByteChannel output, final ForkJoinPool pool)
+      throws IOException {
+    return process(input, output, pool, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Reads every record of the input file and writes its result to the output channel, computing
+   * chunks of the file in parallel on the given pool.
+   *
+   * @param input File holding one date pair record per line.
+   * @param output Channel to write the full days between each pair to.
+   * @param pool Pool to compute the chunks on, its parallelism sets the number of threads used.
+   * @param chunkSize Approximate number of input bytes per chunk.
+   * @return Counts of the processed records and the time it took.
+   * @throws IOException Thrown if reading the file or writing to the channel fails.
+   */
+  public static ProcessingSummary process(
+      final Path input,
+      final WritableByteChannel output,
+      final ForkJoinPool pool,
+      final int chunkSize)
+      throws IOException {
+    // Perform size check
+    if (chunkSize <= DatePairs.RECORD_LENGTH) {
+      throw new IllegalArgumentException("Chunk size must be more than a record!");
+    }
+
+    final long startTime = System.nanoTime();
+    final OutputStream outputStream = Channels.newOutputStream(output);
+    final Deque<Future<ChunkResult>> chunksInFlight = new ArrayDeque<>();
+    final int maxChunksInFlight = pool.getParallelism() * 2;
+    long rows = 0;
+    long rejectedRows = 0;
+
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      long chunkStart = 0;
+
+      while (chunkStart < size || !chunksInFlight.isEmpty()) {
+        // Keep the pool busy, but only with a bounded number of chunks
+        if (chunkStart < size && chunksInFlight.size() < maxChunksInFlight) {
+          final long start = chunkStart;
+          final long end = findRecordBoundary(channel, Math.min(start + chunkSize, size), size);
+          chunksInFlight.add(pool.submit(() -> processChunk(channel, start, end, chunkSize)));
+          chunkStart = end;
+          continue;
+        }
+
+        // Write the oldest chunk, results leave in input order whichever chunk finishes first
+        final ChunkResult result = join(chunksInFlight.removeFirst());
+        result.getOutput().writeTo(outputStream);
+        rows += result.getSummary().getRows();
+        rejectedRows += result.getSummary().getRejectedRows();
+      }
+    } finally {
+      // Do not leave chunks running against a closed channel
+      chunksInFlight.forEach(chunk -> chunk.cancel(true));
+    }
+
+    outputStream.flush();
+    return new ProcessingSummary(rows, rejectedRows, System.nanoTime() - startTime);
+  }
+
+  /**
+   * Computes full days between each pair of dates given as days since 1901-01-01, splitting the
+   * arrays between the threads of the given pool. The results are identical to {@link
+   * DateUtils#getFullDaysBetween(int[], int[], int[])}.
+   *
+   * @param firstEpochDays From dates as days since 1901-01-01.
+   * @param secondEpochDays To dates as days since 1901-01-01, paired with the from dates by index.
+   * @param fullDaysBetween Receives the full days between each pair, by the same index.
+   * @param pool Pool to compute the slices on.
+   */
+  public static void getFullDaysBetween(
+      final int[] firstEpochDays,
+      final int[] secondEpochDays,
+      final int[] fullDaysBetween,
+      final ForkJoinPool pool) {
+    // Perform null check
+    if (firstEpochDays == null || secondEpochDays == null || fullDaysBetween == null) {
+      throw new IllegalArgumentException("Arrays must not be null!");
+    }
+    // Perform length check once, slices are then known to be in bounds
+    if (firstEpochDays.length != secondEpochDays.length
+        || firstEpochDays.length > fullDaysBetween.length) {
+      throw new IllegalArgumentException(
+          "Date arrays must be of the same length and fit in the result array!");
+    }
+
+    pool.invoke(
+        new FullDaysBetweenSlice(
+            firstEpochDays, secondEpochDays, fullDaysBetween, 0, firstEpochDays.length));
+  }
+
+  private static ChunkResult processChunk(
+      final FileChannel channel, final long start, final long end, final int chunkSize)
+      throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final DatePairCsvProcessor.ResultWriter writer =
+        new DatePairCsvProcessor.ResultWriter(Channels.newChannel(output));
+    final ProcessingSummary summary =
+        MappedDatePairReader.read(channel, start, end, chunkSize, writer::write);
+    writer.flush();
+    return new ChunkResult(output, summary);
+  }
+
+  private static long findRecordBoundary(
+      final FileChannel channel, final long position, final long size) throws IOException {
+    // A chunk ends right after the first line feed at or after the given position
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+    long bufferStart = position;
+
+    while (bufferStart < size) {
+      buffer.clear();
+      final int read = channel.read(buffer, bufferStart);
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == LINE_FEED) {
+          return bufferStart + i + 1;
+        }
+      }
+      bufferStart += read;
+    }
+    return size;
+  }
+
+  private static ChunkResult join(final Future<ChunkResult> chunk) throws IOException {
+    try {
+      return chunk.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while processing date pairs!", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to process date pairs!", e.getCause());
+    }
+  }
+
+  /** Output and counts of a processed chunk. */
+  @Getter
+  @RequiredArgsConstructor
+  private static final class ChunkResult {
+    private final ByteArrayOutputStream output;
+    private final ProcessingSummary summary;
+  }
+
+  /** Splits the arrays in halves until a slice is small enough to be computed in one go. */
+  @RequiredArgsConstructor
+  private static final class FullDaysBetweenSlice extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] firstEpochDays;
+    private final int[] secondEpochDays;
+    private final int[] fullDaysBetween;
+    private final int from;
+    private final int to;
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from <= ARRAY_SLICE_THRESHOLD) {
+        DateUtils.getFullDaysBetween(
+            this.firstEpochDays, this.secondEpochDays, this.fullDaysBetween, this.from, this.to);
+        return;
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      invokeAll(
+          new FullDaysBetweenSlice(
+              this.firstEpochDays, this.secondEpochDays, this.fullDaysBetween, this.from, middle),
+          new FullDaysBetweenSlice(
+              this.firstEpochDays, this.secondEpochDays, this.fullDaysBetween, middle, this.to));
+    }
+  }
+}
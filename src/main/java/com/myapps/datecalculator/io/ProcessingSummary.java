@@ -0,0 +1,27 @@
+package com.myapps.datecalculator.io;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/** Counts of the records processed by a bulk run and the time it took. */
+@RequiredArgsConstructor
+@Getter
+public class ProcessingSummary {
+  private final long rows;
+  private final long rejectedRows;
+  private final long elapsedNanos;
+
+  /**
+   * Returns the throughput of the run.
+   *
+   * @return Rows processed per second.
+   */
+  public double getRowsPerSecond() {
+    if (this.elapsedNanos == 0) {
+      return 0;
+    }
+    return this.rows * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+  }
+}
@@ -0,0 +1,195 @@
+package com.myapps.datecalculator.metrics;
+
+import com.myapps.datecalculator.date.DateParseFailure;
+import com.myapps.datecalculator.date.DateParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in runtime metrics of the parse and full days between hot paths: counts of parsed dates by
+ * outcome, and latency histograms of parsing and of full days between calculations.
+ *
+ * <p>Metrics are enabled by starting the JVM with {@code -Ddatecalculator.metrics.enabled=true},
+ * in which case they are also exposed as the {@value #OBJECT_NAME} MXBean. The flag is read once
+ * into a static final field, so when metrics are disabled the JIT drops the instrumentation and
+ * the hot paths run as if it was not there.
+ */
+public final class DateMetrics {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DateMetrics.class);
+
+  public static final String ENABLED_PROPERTY = "datecalculator.metrics.enabled";
+  public static final String OBJECT_NAME = "com.myapps.datecalculator:type=DateMetrics";
+
+  /** True if metrics are recorded, fixed for the lifetime of the JVM. */
+  public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  // Parse outcomes indexed by failure code, index 0 counts valid dates
+  private static final LongAdder[] PARSE_RESULTS =
+      new LongAdder[DateParseFailure.values().length + 1];
+  private static final LatencyHistogram PARSE_LATENCY = new LatencyHistogram();
+  private static final LatencyHistogram FULL_DAYS_BETWEEN_LATENCY = new LatencyHistogram();
+
+  static {
+    for (int i = 0; i < PARSE_RESULTS.length; i++) {
+      PARSE_RESULTS[i] = new LongAdder();
+    }
+    if (ENABLED) {
+      registerMXBean();
+    }
+  }
+
+  private DateMetrics() {}
+
+  /**
+   * Returns the start time of a timed operation.
+   *
+   * @return The current value of {@link System#nanoTime()} if metrics are enabled, otherwise 0.
+   */
+  public static long startTimer() {
+    return ENABLED ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records the outcome and latency of a parse, if metrics are enabled.
+   *
+   * @param startTime Value returned by {@link #startTimer()} before parsing.
+   * @param result The result returned by the parse.
+   * @return The given result, so the call can wrap the return value of a parse.
+   */
+  public static int recordParse(final long startTime, final int result) {
+    if (ENABLED) {
+      record(PARSE_LATENCY, startTime);
+      countParse(result);
+    }
+    return result;
+  }
+
+  /**
+   * Records the latency of a full days between calculation, if metrics are enabled.
+   *
+   * @param startTime Value returned by {@link #startTimer()} before calculating.
+   * @param fullDays The calculated full days.
+   * @return The given full days, so the call can wrap the return value of a calculation.
+   */
+  public static int recordFullDaysBetween(final long startTime, final int fullDays) {
+    if (ENABLED) {
+      record(FULL_DAYS_BETWEEN_LATENCY, startTime);
+    }
+    return fullDays;
+  }
+
+  /**
+   * Records the latency of a batch of full days between calculations as the mean latency of each
+   * calculation, if metrics are enabled.
+   *
+   * @param startTime Value returned by {@link #startTimer()} before calculating the batch.
+   * @param calculations Number of calculations in the batch.
+   */
+  public static void recordFullDaysBetweenBatch(final long startTime, final int calculations) {
+    if (ENABLED && calculations > 0) {
+      FULL_DAYS_BETWEEN_LATENCY.record(
+          (System.nanoTime() - startTime) / calculations, calculations);
+    }
+  }
+
+  /**
+   * Returns the number of dates parsed as valid dates.
+   *
+   * @return Number of valid dates.
+   */
+  public static long getParsedCount() {
+    return PARSE_RESULTS[0].sum();
+  }
+
+  /**
+   * Returns the number of dates rejected for the given reason.
+   *
+   * @param failure A reason for a date to be rejected.
+   * @return Number of dates rejected for the reason.
+   */
+  public static long getRejectedCount(final DateParseFailure failure) {
+    return PARSE_RESULTS[failure.getCode()].sum();
+  }
+
+  /**
+   * Returns the latencies of parses.
+   *
+   * @return The parse latency histogram.
+   */
+  public static LatencyHistogram getParseLatency() {
+    return PARSE_LATENCY;
+  }
+
+  /**
+   * Returns the latencies of full days between calculations.
+   *
+   * @return The full days between latency histogram.
+   */
+  public static LatencyHistogram getFullDaysBetweenLatency() {
+    return FULL_DAYS_BETWEEN_LATENCY;
+  }
+
+  /** Clears every counter and histogram. */
+  public static void reset() {
+    for (final LongAdder counter : PARSE_RESULTS) {
+      counter.reset();
+    }
+    PARSE_LATENCY.reset();
+    FULL_DAYS_BETWEEN_LATENCY.reset();
+  }
+
+  /**
+   * Returns a plain text dump of every metric, one per line.
+   *
+   * @return The metrics as text.
+   */
+  public static String dump() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append("metrics.enabled ").append(ENABLED).append('\n');
+    builder.append("parse.valid ").append(getParsedCount()).append('\n');
+    for (final DateParseFailure failure : DateParseFailure.values()) {
+      builder
+          .append("parse.rejected.")
+          .append(failure.name().toLowerCase())
+          .append(' ')
+          .append(getRejectedCount(failure))
+          .append('\n');
+    }
+    appendLatency(builder, "parse.latency", PARSE_LATENCY);
+    appendLatency(builder, "fullDaysBetween.latency", FULL_DAYS_BETWEEN_LATENCY);
+    return builder.toString();
+  }
+
+  static void countParse(final int result) {
+    // Valid results are positive, rejected ones carry their failure code
+    final DateParseFailure failure = DateParser.getFailure(result);
+    PARSE_RESULTS[failure == null ? 0 : failure.getCode()].increment();
+  }
+
+  private static void record(final LatencyHistogram histogram, final long startTime) {
+    histogram.record(System.nanoTime() - startTime);
+  }
+
+  private static void appendLatency(
+      final StringBuilder builder, final String name, final LatencyHistogram histogram) {
+    builder.append(name).append(".count ").append(histogram.getCount()).append('\n');
+    builder.append(name).append(".p50.ns ").append(histogram.getPercentile(50)).append('\n');
+    builder.append(name).append(".p99.ns ").append(histogram.getPercentile(99)).append('\n');
+    builder.append(name).append(".max.ns ").append(histogram.getMax()).append('\n');
+  }
+
+  private static void registerMXBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(new DateMetricsBean(), new ObjectName(OBJECT_NAME));
+    } catch (final JMException e) {
+      LOGGER.error("Failed to register the {} MXBean", OBJECT_NAME, e);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.myapps.datecalculator.metrics;
+
+import com.myapps.datecalculator.date.DateParseFailure;
+
+/** Exposes {@link DateMetrics} through JMX. */
+class DateMetricsBean implements DateMetricsMXBean {
+
+  @Override
+  public long getParsedCount() {
+    return DateMetrics.getParsedCount();
+  }
+
+  @Override
+  public long getInvalidFormatCount() {
+    return DateMetrics.getRejectedCount(DateParseFailure.INVALID_FORMAT);
+  }
+
+  @Override
+  public long getYearOutOfRangeCount() {
+    return DateMetrics.getRejectedCount(DateParseFailure.YEAR_OUT_OF_RANGE);
+  }
+
+  @Override
+  public long getMonthOutOfRangeCount() {
+    return DateMetrics.getRejectedCount(DateParseFailure.MONTH_OUT_OF_RANGE);
+  }
+
+  @Override
+  public long getDayUnderflowCount() {
+    return DateMetrics.getRejectedCount(DateParseFailure.DAY_UNDERFLOW);
+  }
+
+  @Override
+  public long getDayOverflowCount() {
+    return DateMetrics.getRejectedCount(DateParseFailure.DAY_OVERFLOW);
+  }
+
+  @Override
+  public long getParseLatencyP50() {
+    return DateMetrics.getParseLatency().getPercentile(50);
+  }
+
+  @Override
+  public long getParseLatencyP99() {
+    return DateMetrics.getParseLatency().getPercentile(99);
+  }
+
+  @Override
+  public long getParseLatencyMax() {
+    return DateMetrics.getParseLatency().getMax();
+  }
+
+  @Override
+  public long getFullDaysBetweenCount() {
+    return DateMetrics.getFullDaysBetweenLatency().getCount();
+  }
+
+  @Override
+  public long getFullDaysBetweenLatencyP50() {
+    return DateMetrics.getFullDaysBetweenLatency().getPercentile(50);
+  }
+
+  @Override
+  public long getFullDaysBetweenLatencyP99() {
+    return DateMetrics.getFullDaysBetweenLatency().getPercentile(99);
+  }
+
+  @Override
+  public long getFullDaysBetweenLatencyMax() {
+    return DateMetrics.getFullDaysBetweenLatency().getMax();
+  }
+
+  @Override
+  public String dump() {
+    return DateMetrics.dump();
+  }
+
+  @Override
+  public void reset() {
+    DateMetrics.reset();
+  }
+}
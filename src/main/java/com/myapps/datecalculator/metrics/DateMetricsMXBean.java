@@ -0,0 +1,35 @@
+package com.myapps.datecalculator.metrics;
+
+/** The JMX view of {@link DateMetrics}, latencies are in nanoseconds. */
+public interface DateMetricsMXBean {
+
+  long getParsedCount();
+
+  long getInvalidFormatCount();
+
+  long getYearOutOfRangeCount();
+
+  long getMonthOutOfRangeCount();
+
+  long getDayUnderflowCount();
+
+  long getDayOverflowCount();
+
+  long getParseLatencyP50();
+
+  long getParseLatencyP99();
+
+  long getParseLatencyMax();
+
+  long getFullDaysBetweenCount();
+
+  long getFullDaysBetweenLatencyP50();
+
+  long getFullDaysBetweenLatencyP99();
+
+  long getFullDaysBetweenLatencyMax();
+
+  String dump();
+
+  void reset();
+}
@@ -0,0 +1,161 @@
+package com.myapps.datecalculator.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, with log-linear buckets in the spirit of HDR
+ * histograms. Values below {@value #SUB_BUCKETS} are counted exactly, larger values fall in one of
+ * {@value #SUB_BUCKETS} buckets per power of two, so a reported percentile is within about 6% of
+ * the recorded value.
+ */
+public final class LatencyHistogram {
+
+  // Each power of two range of values is split into this many buckets
+  private static final int SUB_BUCKET_BITS = 4;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  // Striped per bucket, so threads recording into the same hot buckets do not contend on one CAS
+  private final LongAdder[] counts = new LongAdder[BUCKETS];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /** Creates an empty histogram. */
+  public LatencyHistogram() {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      this.counts[bucket] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds, negative values are recorded as 0.
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(nanos, 0);
+    this.counts[getBucket(value)].increment();
+    this.count.increment();
+    this.sum.add(value);
+    this.max.accumulate(value);
+  }
+
+  /**
+   * Records the same latency a number of times, for e.g. the mean latency of each operation of a
+   * batch.
+   *
+   * @param nanos The latency in nanoseconds, negative values are recorded as 0.
+   * @param times Number of times to record the latency.
+   */
+  public void record(final long nanos, final int times) {
+    // Perform range check
+    if (times < 0) {
+      throw new IllegalArgumentException("Times must not be negative!");
+    }
+    if (times == 0) {
+      return;
+    }
+
+    final long value = Math.max(nanos, 0);
+    this.counts[getBucket(value)].add(times);
+    this.count.add(times);
+    this.sum.add(value * times);
+    this.max.accumulate(value);
+  }
+
+  /**
+   * Returns the number of recorded latencies.
+   *
+   * @return Number of recorded latencies.
+   */
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  /**
+   * Returns the highest recorded latency.
+   *
+   * @return The highest latency in nanoseconds, or 0 if none was recorded.
+   */
+  public long getMax() {
+    return this.max.get();
+  }
+
+  /**
+   * Returns the mean of the recorded latencies.
+   *
+   * @return The mean latency in nanoseconds, or 0 if none was recorded.
+   */
+  public double getMean() {
+    final long count = this.count.sum();
+    return count == 0 ? 0 : this.sum.sum() / (double) count;
+  }
+
+  /**
+   * Returns the latency below which the given percentage of the recorded latencies fall.
+   *
+   * @param percentile A percentage from 0 to 100, for e.g. 99 for the 99th percentile.
+   * @return The highest latency of the bucket holding the percentile in nanoseconds, capped by the
+   *     highest recorded latency, or 0 if none was recorded.
+   */
+  public long getPercentile(final double percentile) {
+    // Perform range check
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0-100!");
+    }
+
+    // Counts are read one bucket at a time, so sum them up front to rank against a stable total
+    final long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      snapshot[bucket] = this.counts[bucket].sum();
+      total += snapshot[bucket];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max((long) Math.ceil(percentile / 100 * total), 1);
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += snapshot[bucket];
+      if (seen >= rank) {
+        return Math.min(getHighestValue(bucket), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /** Clears every recorded latency. Latencies recorded concurrently may be partly kept. */
+  public void reset() {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      this.counts[bucket].reset();
+    }
+    this.count.reset();
+    this.sum.reset();
+    this.max.reset();
+  }
+
+  static int getBucket(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    // Keep the highest bits of the value below its leading one, the rest is the bucket's width
+    final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long getHighestValue(final int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+
+    final int shift = bucket / SUB_BUCKETS - 1;
+    final long lowestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowestValue + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,209 @@
+package com.myapps.datecalculator.server;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateParser;
+import com.myapps.datecalculator.io.DatePairCsvProcessor;
+import com.myapps.datecalculator.util.DateUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An embedded HTTP endpoint for full days between dates, built on the JDK's own HTTP server.
+ *
+ * <ul>
+ *   <li>{@code GET /fullDays?from=yyyy-MM-dd&to=yyyy-MM-dd} answers the full days between two
+ *       dates.
+ *   <li>{@code POST /fullDays} takes newline-delimited yyyy-MM-dd,yyyy-MM-dd pairs and streams back
+ *       one result line per pair, empty for rejected pairs, as in bulk mode.
+ * </ul>
+ *
+ * <p>Requests are served on virtual threads when the JDK has them, otherwise on a fixed pool of
+ * platform threads.
+ *
+ * <p>Start the JVM with {@code -Dsun.net.httpserver.nodelay=true} for small responses. The JDK's
+ * HTTP server reads it once, JVM-wide, when it is first used, and without it responses wait on
+ * delayed acknowledgements, about 40 ms per request.
+ */
+public final class DateCalculatorServer implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DateCalculatorServer.class);
+
+  static final String FULL_DAYS_PATH = "/fullDays";
+  private static final String FROM_PARAMETER = "from";
+  private static final String TO_PARAMETER = "to";
+
+  /** System property disabling Nagle's algorithm on the connections of the JDK's HTTP server. */
+  public static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+  // Platform threads per processor when virtual threads are not available
+  private static final int THREADS_PER_PROCESSOR = 4;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private DateCalculatorServer(final HttpServer server, final ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts a server listening on the given port.
+   *
+   * @param port Port to listen on, 0 picks a free port.
+   * @return The running server.
+   * @throws IOException Thrown if the server cannot bind to the port.
+   */
+  public static DateCalculatorServer start(final int port) throws IOException {
+    final HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+    final ExecutorService executor = newRequestExecutor();
+
+    server.createContext(FULL_DAYS_PATH, DateCalculatorServer::handleFullDays);
+    server.setExecutor(executor);
+    server.start();
+    return new DateCalculatorServer(server, executor);
+  }
+
+  /**
+   * Returns the port the server is listening on.
+   *
+   * @return The listening port.
+   */
+  public int getPort() {
+    return this.server.getAddress().getPort();
+  }
+
+  /** Stops the server, without waiting for in-flight requests. */
+  @Override
+  public void close() {
+    this.server.stop(0);
+    this.executor.shutdownNow();
+  }
+
+  static void handleFullDays(final HttpExchange exchange) throws IOException {
+    try {
+      switch (exchange.getRequestMethod()) {
+        case "GET":
+          handleSinglePair(exchange);
+          break;
+        case "POST":
+          handlePairs(exchange);
+          break;
+        default:
+          exchange.getResponseHeaders().add("Allow", "GET, POST");
+          respond(exchange, 405, "Method not allowed! Use GET or POST.");
+      }
+    } catch (final IOException e) {
+      // Handled here only, the exchange is closed below and nothing is rethrown to the server
+      LOGGER.error(
+          "Failed to serve {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+    } catch (final RuntimeException e) {
+      LOGGER.error(
+          "Failed to serve {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+      // A status can only be sent before the headers, a streamed response is cut short instead
+      if (exchange.getResponseCode() == -1) {
+        respond(exchange, 500, "Internal server error!");
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void handleSinglePair(final HttpExchange exchange) throws IOException {
+    final Map<String, String> parameters;
+    try {
+      parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+    } catch (final IllegalArgumentException e) {
+      // A malformed escape is a client mistake, answered like an invalid date
+      respond(exchange, 400, "Invalid query! Parameters must be URL encoded.");
+      return;
+    }
+    final String from = parameters.get(FROM_PARAMETER);
+    final String to = parameters.get(TO_PARAMETER);
+
+    // Perform null check
+    if (from == null || to == null) {
+      respond(exchange, 400, "Both 'from' and 'to' dates must be given!");
+      return;
+    }
+
+    // Validate without exceptions, the message is only built for rejected dates
+    final int fromResult = DateParser.parse(from);
+    final int toResult = DateParser.parse(to);
+    if (!DateParser.isValid(fromResult) || !DateParser.isValid(toResult)) {
+      respond(
+          exchange,
+          400,
+          DateParser.getMessage(DateParser.isValid(fromResult) ? toResult : fromResult));
+      return;
+    }
+
+    respond(
+        exchange,
+        200,
+        Integer.toString(
+            DateUtils.getFullDaysBetween(
+                Date.toEpochDay(fromResult), Date.toEpochDay(toResult))));
+  }
+
+  private static void handlePairs(final HttpExchange exchange) throws IOException {
+    // A zero length announces a chunked response, results are streamed as they are computed
+    exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=US-ASCII");
+    exchange.sendResponseHeaders(200, 0);
+    DatePairCsvProcessor.process(
+        Channels.newChannel(exchange.getRequestBody()),
+        Channels.newChannel(exchange.getResponseBody()));
+  }
+
+  private static void respond(final HttpExchange exchange, final int status, final String body)
+      throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(bytes);
+    }
+  }
+
+  private static Map<String, String> parseQuery(final String query) {
+    // URLDecoder throws IllegalArgumentException on a malformed % escape
+    final Map<String, String> parameters = new HashMap<>();
+    if (query == null) {
+      return parameters;
+    }
+
+    for (final String parameter : query.split("&")) {
+      final int separator = parameter.indexOf('=');
+      if (separator > 0) {
+        parameters.put(
+            URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+            URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+      }
+    }
+    return parameters;
+  }
+
+  private static ExecutorService newRequestExecutor() {
+    // Virtual threads only exist from JDK 21, look them up so the library still runs on JDK 11
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      LOGGER.debug("Virtual threads are not available, serving requests on platform threads");
+      return Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors() * THREADS_PER_PROCESSOR);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.myapps.datecalculator.stream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Full days between the dates of a run of consecutive records published by {@link
+ * FullDaysBetweenProcessor}. The result at index i is the one of record {@code firstRecordIndex +
+ * i} of the input, or {@link #REJECTED} if that record is not a valid pair of dates.
+ */
+@RequiredArgsConstructor
+@Getter
+public class FullDaysBatch {
+
+  // Result of the records that are not a valid pair of dates
+  public static final int REJECTED = -1;
+
+  private final long firstRecordIndex;
+  private final int[] fullDaysBetween;
+}
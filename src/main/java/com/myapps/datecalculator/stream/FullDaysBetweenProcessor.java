@@ -0,0 +1,384 @@
+package com.myapps.datecalculator.stream;
+
+import com.myapps.datecalculator.io.DatePairs;
+import com.myapps.datecalculator.util.DateUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Flow.Processor} of date pair records in the format yyyy-MM-dd,yyyy-MM-dd, publishing the
+ * full days between the dates of each record in batches of consecutive records. Rejected records
+ * keep their slot in a batch, holding {@link FullDaysBatch#REJECTED}, and are published apart as
+ * well by {@link #getRejectedRecords()}.
+ *
+ * <p>Records are requested from upstream one batch at a time, and a batch is parsed and computed on
+ * the executor. The next batch is only requested while fewer than the configured number of
+ * computed batches wait for downstream demand, so a slow subscriber holds back upstream instead of
+ * growing a queue. No task ever blocks waiting for the subscriber, so any executor, including a
+ * single thread, can run the processor. Results are published to a single subscriber.
+ *
+ * <p>Rejected records are offered to the subscribers of the side channel and dropped for those too
+ * far behind, so the side channel never holds back the results.
+ *
+ * <p>Records are read when their batch is computed, after {@code onNext} returns, so upstream must
+ * not reuse a record once it is sent.
+ */
+public class FullDaysBetweenProcessor implements Flow.Processor<CharSequence, FullDaysBatch> {
+
+  // Records per batch and batches waiting for the subscriber when not configured
+  public static final int DEFAULT_BATCH_SIZE = 1024;
+  public static final int DEFAULT_MAX_BUFFERED_BATCHES = Flow.defaultBufferSize();
+
+  private final Executor executor;
+  private final int batchSize;
+  private final int maxBufferedBatches;
+  private final SubmissionPublisher<RejectedRecord> rejectedRecords;
+
+  // Written by the upstream signals, which are serial
+  private Flow.Subscription upstream;
+  private CharSequence[] batch;
+  private int batchLength;
+  private long recordIndex;
+
+  // Batch tasks are chained, so batches are queued in order even if upstream completes while the
+  // last one is computed
+  private CompletableFuture<Void> pendingBatches = CompletableFuture.completedFuture(null);
+
+  // Guarded by this processor
+  private final Deque<FullDaysBatch> readyBatches = new ArrayDeque<>();
+  private Flow.Subscriber<? super FullDaysBatch> subscriber;
+  private boolean subscribed;
+  private boolean cancelled;
+  private long demand;
+  private boolean upstreamRequested;
+  private boolean upstreamDone;
+  private Throwable error;
+  private boolean terminated;
+
+  // Number of times delivery was asked for, the task delivering runs while it is not 0
+  private final AtomicInteger deliveryRequests = new AtomicInteger();
+
+  /** Creates a processor computing batches on the common pool, with default buffering. */
+  public FullDaysBetweenProcessor() {
+    this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, DEFAULT_MAX_BUFFERED_BATCHES);
+  }
+
+  /**
+   * Creates a processor computing batches, and delivering them, on the given executor.
+   *
+   * @param executor Executor to parse and compute batches, and to deliver them to subscribers.
+   * @param batchSize Number of records per batch, and per request to upstream.
+   * @param maxBufferedBatches Number of computed batches waiting for the subscriber before upstream
+   *     is held back.
+   */
+  public FullDaysBetweenProcessor(
+      final Executor executor, final int batchSize, final int maxBufferedBatches) {
+    // Perform null check
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor must not be null!");
+    }
+    // Perform range check
+    if (batchSize < 1 || maxBufferedBatches < 1) {
+      throw new IllegalArgumentException("Batch size and buffered batches must be more than 0!");
+    }
+
+    this.executor = executor;
+    this.batchSize = batchSize;
+    this.maxBufferedBatches = maxBufferedBatches;
+    // Rejected records are buffered by batch as well
+    this.rejectedRecords =
+        new SubmissionPublisher<>(
+            executor, (int) Math.min((long) maxBufferedBatches * batchSize, Integer.MAX_VALUE));
+    this.batch = new CharSequence[batchSize];
+  }
+
+  /**
+   * Returns the publisher of the records that are not a valid pair of dates.
+   *
+   * @return A publisher of rejected records, in input order, dropping them for subscribers that
+   *     fall behind.
+   */
+  public Flow.Publisher<RejectedRecord> getRejectedRecords() {
+    return this.rejectedRecords;
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super FullDaysBatch> subscriber) {
+    // Perform null check
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber must not be null!");
+    }
+
+    synchronized (this) {
+      if (this.subscribed) {
+        subscriber.onSubscribe(new RejectedSubscription());
+        subscriber.onError(new IllegalStateException("Processor allows a single subscriber!"));
+        return;
+      }
+      this.subscribed = true;
+    }
+
+    // The subscriber only receives batches once onSubscribe has returned
+    subscriber.onSubscribe(new ResultSubscription());
+    synchronized (this) {
+      this.subscriber = subscriber;
+    }
+    deliver();
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    // A processor takes a single upstream
+    synchronized (this) {
+      if (this.upstream != null || this.cancelled) {
+        subscription.cancel();
+        return;
+      }
+      this.upstream = subscription;
+      this.upstreamRequested = true;
+    }
+    subscription.request(this.batchSize);
+  }
+
+  @Override
+  public void onNext(final CharSequence record) {
+    this.batch[this.batchLength++] = record;
+    if (this.batchLength == this.batchSize) {
+      scheduleBatch(false);
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    this.pendingBatches =
+        this.pendingBatches.thenRunAsync(() -> fail(throwable), this.executor);
+  }
+
+  @Override
+  public void onComplete() {
+    // Compute the last, partial, batch before completing
+    scheduleBatch(true);
+  }
+
+  private void scheduleBatch(final boolean last) {
+    final CharSequence[] records = this.batch;
+    final int length = this.batchLength;
+    final long firstRecordIndex = this.recordIndex;
+    this.batch = new CharSequence[this.batchSize];
+    this.batchLength = 0;
+    this.recordIndex += length;
+
+    this.pendingBatches =
+        this.pendingBatches.thenRunAsync(
+            () -> {
+              try {
+                enqueue(
+                    length == 0
+                        ? null
+                        : new FullDaysBatch(
+                            firstRecordIndex, compute(records, length, firstRecordIndex)),
+                    last);
+              } catch (final RuntimeException e) {
+                cancelUpstream();
+                fail(e);
+              }
+            },
+            this.executor);
+  }
+
+  private void enqueue(final FullDaysBatch batch, final boolean last) {
+    final boolean requestUpstream;
+    synchronized (this) {
+      if (this.cancelled || this.error != null) {
+        return;
+      }
+      if (batch != null) {
+        this.readyBatches.add(batch);
+      }
+      this.upstreamDone = last;
+      this.upstreamRequested = false;
+      requestUpstream = claimUpstreamRequest();
+    }
+    if (requestUpstream) {
+      this.upstream.request(this.batchSize);
+    }
+    deliver();
+  }
+
+  private void fail(final Throwable throwable) {
+    synchronized (this) {
+      if (this.error != null || this.terminated) {
+        return;
+      }
+      this.error = throwable;
+      this.readyBatches.clear();
+    }
+    this.rejectedRecords.closeExceptionally(throwable);
+    deliver();
+  }
+
+  private boolean claimUpstreamRequest() {
+    // Called holding the lock, at most one batch is requested from upstream at a time
+    if (this.upstreamRequested
+        || this.upstreamDone
+        || this.upstream == null
+        || this.readyBatches.size() >= this.maxBufferedBatches) {
+      return false;
+    }
+    this.upstreamRequested = true;
+    return true;
+  }
+
+  private void deliver() {
+    // Only one task delivers at a time, later requests make it loop again
+    if (this.deliveryRequests.getAndIncrement() == 0) {
+      this.executor.execute(this::deliverBatches);
+    }
+  }
+
+  private void deliverBatches() {
+    int requests = 1;
+    do {
+      while (deliverBatch()) {
+        // Deliver as long as there are batches and demand
+      }
+      requests = this.deliveryRequests.addAndGet(-requests);
+    } while (requests != 0);
+  }
+
+  private boolean deliverBatch() {
+    final Flow.Subscriber<? super FullDaysBatch> subscriber;
+    final FullDaysBatch batch;
+    final Throwable error;
+    final boolean requestUpstream;
+    synchronized (this) {
+      subscriber = this.subscriber;
+      if (subscriber == null || this.cancelled || this.terminated) {
+        return false;
+      }
+      error = this.error;
+      if (error == null && !this.readyBatches.isEmpty() && this.demand > 0) {
+        this.demand--;
+        batch = this.readyBatches.poll();
+        requestUpstream = claimUpstreamRequest();
+      } else {
+        batch = null;
+        requestUpstream = false;
+        if (error == null && !(this.upstreamDone && this.readyBatches.isEmpty())) {
+          return false;
+        }
+        this.terminated = true;
+      }
+    }
+
+    if (batch == null) {
+      if (error == null) {
+        this.rejectedRecords.close();
+        subscriber.onComplete();
+      } else {
+        subscriber.onError(error);
+      }
+      return false;
+    }
+
+    if (requestUpstream) {
+      this.upstream.request(this.batchSize);
+    }
+    try {
+      subscriber.onNext(batch);
+    } catch (final RuntimeException e) {
+      cancel();
+      return false;
+    }
+    return true;
+  }
+
+  private void cancel() {
+    synchronized (this) {
+      this.cancelled = true;
+      this.readyBatches.clear();
+    }
+    cancelUpstream();
+    this.rejectedRecords.close();
+  }
+
+  private void cancelUpstream() {
+    final Flow.Subscription upstream;
+    synchronized (this) {
+      upstream = this.upstream;
+    }
+    if (upstream != null) {
+      upstream.cancel();
+    }
+  }
+
+  private int[] compute(
+      final CharSequence[] records, final int length, final long firstRecordIndex) {
+    final int[] firstEpochDays = new int[length];
+    final int[] secondEpochDays = new int[length];
+    final int[] rejected = new int[length];
+    int rejectedCount = 0;
+    for (int i = 0; i < length; i++) {
+      final long pair = DatePairs.parse(records[i]);
+      if (pair == DatePairs.REJECTED) {
+        rejected[rejectedCount++] = i;
+        // Never blocks, the record is dropped for subscribers that are too far behind
+        this.rejectedRecords.offer(
+            new RejectedRecord(firstRecordIndex + i, records[i].toString()),
+            (subscriber, record) -> false);
+      } else {
+        firstEpochDays[i] = DatePairs.getFirstEpochDay(pair);
+        secondEpochDays[i] = DatePairs.getSecondEpochDay(pair);
+      }
+    }
+
+    // Slots of rejected records are computed as the same day, then marked
+    final int[] fullDaysBetween = new int[length];
+    DateUtils.getFullDaysBetween(firstEpochDays, secondEpochDays, fullDaysBetween);
+    for (int i = 0; i < rejectedCount; i++) {
+      fullDaysBetween[rejected[i]] = FullDaysBatch.REJECTED;
+    }
+    return fullDaysBetween;
+  }
+
+  /** Demand of the subscriber of the results. */
+  private final class ResultSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        fail(new IllegalArgumentException("Requested batches must be more than 0!"));
+        cancelUpstream();
+        return;
+      }
+      synchronized (FullDaysBetweenProcessor.this) {
+        // Saturate, a demand of Long.MAX_VALUE is unbounded
+        final long demand = FullDaysBetweenProcessor.this.demand + n;
+        FullDaysBetweenProcessor.this.demand = demand < 0 ? Long.MAX_VALUE : demand;
+      }
+      deliver();
+    }
+
+    @Override
+    public void cancel() {
+      FullDaysBetweenProcessor.this.cancel();
+    }
+  }
+
+  /** Subscription of a subscriber refused by the processor, it receives nothing but an error. */
+  private static final class RejectedSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
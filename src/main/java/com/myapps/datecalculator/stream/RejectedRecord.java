@@ -0,0 +1,14 @@
+package com.myapps.datecalculator.stream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/** A record rejected by {@link FullDaysBetweenProcessor}, and its position in the input. */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public class RejectedRecord {
+  private final long index;
+  private final String record;
+}
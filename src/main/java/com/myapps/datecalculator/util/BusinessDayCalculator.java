@@ -0,0 +1,118 @@
+package com.myapps.datecalculator.util;
+
+import com.myapps.datecalculator.date.Date;
+
+/**
+ * Counts full business days between two dates, where business days are Mondays to Fridays that
+ * are not holidays of the given {@link HolidayCalendar}. As for {@link
+ * DateUtils#getFullDaysBetween(Date, Date)}, both given dates are excluded from the count.
+ *
+ * <p>Counts are answered without iterating over the days in between: weekdays are counted with
+ * arithmetic on the epoch day, 1901-01-01 being a Tuesday, and holidays with two binary searches
+ * over the sorted calendar. A calculator is immutable and safe to share between threads.
+ */
+public final class BusinessDayCalculator {
+
+  private static final int DAYS_IN_A_WEEK = 7;
+  private static final int WEEKDAYS_IN_A_WEEK = 5;
+
+  // Days from the Monday before the epoch, 1900-12-31, to the epoch
+  private static final int EPOCH_DAYS_AFTER_MONDAY = 1;
+
+  private final HolidayCalendar holidays;
+
+  /**
+   * Creates a calculator excluding weekends and the holidays of the given calendar.
+   *
+   * @param holidays Holidays to exclude, {@link HolidayCalendar#EMPTY} to only exclude weekends.
+   */
+  public BusinessDayCalculator(final HolidayCalendar holidays) {
+    // Perform null check
+    if (holidays == null) {
+      throw new IllegalArgumentException("Holiday calendar must not be null!");
+    }
+    this.holidays = holidays;
+  }
+
+  /**
+   * Returns full business days between two given dates. The first and the last dates are
+   * considered partial dates hence both dates are excluded from the calculation.
+   *
+   * @param firstDate A from date object. This need not be older than the to date object.
+   * @param secondDate A to date object. This need not be newer than the from date object.
+   * @return Total number of business days between the two given dates.
+   */
+  public int getFullBusinessDaysBetween(final Date firstDate, final Date secondDate) {
+    // Perform null check
+    if (firstDate == null || secondDate == null) {
+      throw new IllegalArgumentException("Dates must not be null!");
+    }
+    return getFullBusinessDaysBetween(firstDate.getEpochDay(), secondDate.getEpochDay());
+  }
+
+  /**
+   * Returns full business days between two dates given as days since 1901-01-01. The first and the
+   * last dates are considered partial dates hence both dates are excluded from the calculation.
+   *
+   * @param firstEpochDay A from date as days since 1901-01-01.
+   * @param secondEpochDay A to date as days since 1901-01-01.
+   * @return Total number of business days between the two given dates.
+   * @throws IllegalArgumentException Thrown if any of the values is outside the supported range.
+   */
+  public int getFullBusinessDaysBetween(final int firstEpochDay, final int secondEpochDay) {
+    checkEpochDay(firstEpochDay);
+    checkEpochDay(secondEpochDay);
+
+    // Count over the days strictly between both dates
+    final int from = Math.min(firstEpochDay, secondEpochDay) + 1;
+    final int to = Math.max(firstEpochDay, secondEpochDay);
+    if (to <= from) {
+      return 0;
+    }
+    return getWeekdaysBefore(to)
+        - getWeekdaysBefore(from)
+        - this.holidays.getHolidaysBetween(from, to);
+  }
+
+  /**
+   * Returns true if the given date is neither on a weekend nor a holiday.
+   *
+   * @param date A date.
+   * @return True if the date is a business day.
+   */
+  public boolean isBusinessDay(final Date date) {
+    // Perform null check
+    if (date == null) {
+      throw new IllegalArgumentException("Date must not be null!");
+    }
+    return isWeekday(date.getEpochDay()) && !this.holidays.isHoliday(date.getEpochDay());
+  }
+
+  /**
+   * Returns the holiday calendar of this calculator.
+   *
+   * @return The holiday calendar.
+   */
+  public HolidayCalendar getHolidays() {
+    return this.holidays;
+  }
+
+  static boolean isWeekday(final int epochDay) {
+    return DateUtils.getDayOfWeek(epochDay) <= WEEKDAYS_IN_A_WEEK;
+  }
+
+  private static void checkEpochDay(final int epochDay) {
+    // Perform range check, the week arithmetic below only holds from the epoch on
+    if (epochDay < 0 || epochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+      throw new IllegalArgumentException(
+          "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!");
+    }
+  }
+
+  private static int getWeekdaysBefore(final int epochDay) {
+    // Count whole weeks from the Monday before the epoch, then the weekdays of the partial week
+    final int days = epochDay + EPOCH_DAYS_AFTER_MONDAY;
+    return days / DAYS_IN_A_WEEK * WEEKDAYS_IN_A_WEEK
+        + Math.min(days % DAYS_IN_A_WEEK, WEEKDAYS_IN_A_WEEK);
+  }
+}
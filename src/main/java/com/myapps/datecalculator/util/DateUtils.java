@@ -1,6 +1,7 @@
 package com.myapps.datecalculator.util;
 
 import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.metrics.DateMetrics;
 
 import static com.myapps.datecalculator.constant.Constant.*;
 
@@ -11,6 +12,27 @@ import static com.myapps.datecalculator.constant.Constant.*;
  */
 public class DateUtils {
 
+  // Years looked up in the tables below, one past the last supported year so the end of the
+  // supported range is a lookup too
+  private static final int FIRST_TABLE_YEAR = EPOCH_YEAR;
+  private static final int LAST_TABLE_YEAR = 3000;
+
+  // Leap flag of each table year, and the days from the epoch to its January 1st
+  private static final boolean[] LEAP_YEARS = new boolean[LAST_TABLE_YEAR - FIRST_TABLE_YEAR + 1];
+  private static final int[] DAYS_FROM_EPOCH_TO_YEAR = new int[LEAP_YEARS.length];
+
+  // Day of the week of 1901-01-01, a Tuesday, as an ISO value from Monday 1 to Sunday 7
+  private static final int EPOCH_DAY_OF_WEEK = 2;
+  private static final int DAYS_IN_A_WEEK = 7;
+  private static final int THURSDAY = 4;
+
+  static {
+    for (int year = FIRST_TABLE_YEAR; year <= LAST_TABLE_YEAR; year++) {
+      LEAP_YEARS[year - FIRST_TABLE_YEAR] = computeLeapYear(year);
+      DAYS_FROM_EPOCH_TO_YEAR[year - FIRST_TABLE_YEAR] = computeDaysFromEpochToYear(year);
+    }
+  }
+
   /**
    * Returns full days between two given dates. The first and the last dates are considered partial
    * dates hence both dates are excluded from the calculation.
@@ -25,33 +47,99 @@ public class DateUtils {
       throw new IllegalArgumentException("Dates must not be null!");
     }
 
-    // Return 0 if both dates are same
-    if (firstDate.compareTo(secondDate) == 0) {
-      return 0;
-    }
+    // Both dates carry their day ordinal, so the days in between are a plain subtraction
+    return getFullDaysBetween(firstDate.getEpochDay(), secondDate.getEpochDay());
+  }
 
-    final Date olderDate;
-    final Date newerDate;
+  /**
+   * Returns full days between two dates given as days since 1901-01-01. The first and the last
+   * dates are considered partial dates hence both dates are excluded from the calculation.
+   *
+   * @param firstEpochDay A from date as days since 1901-01-01.
+   * @param secondEpochDay A to date as days since 1901-01-01.
+   * @return Total number of full days between the two given dates.
+   */
+  public static int getFullDaysBetween(final int firstEpochDay, final int secondEpochDay) {
+    final long startTime = DateMetrics.startTimer();
+    final int daysInBetween = Math.abs(firstEpochDay - secondEpochDay);
+
+    // For full days subtract 1 from daysInBetween, unless both dates are the same
+    return DateMetrics.recordFullDaysBetween(startTime, Math.max(daysInBetween - 1, 0));
+  }
 
-    // Find out if firstDate is newer than secondDate
-    if (firstDate.compareTo(secondDate) < 0) {
-      olderDate = firstDate;
-      newerDate = secondDate;
-    } else {
-      olderDate = secondDate;
-      newerDate = firstDate;
+  /**
+   * Computes full days between each pair of dates given as days since 1901-01-01. The results are
+   * identical to calling {@link #getFullDaysBetween(Date, Date)} per pair.
+   *
+   * @param firstEpochDays From dates as days since 1901-01-01.
+   * @param secondEpochDays To dates as days since 1901-01-01, paired with the from dates by index.
+   * @param fullDaysBetween Receives the full days between each pair, by the same index.
+   */
+  public static void getFullDaysBetween(
+      final int[] firstEpochDays, final int[] secondEpochDays, final int[] fullDaysBetween) {
+    final int pairs = getPairCount(firstEpochDays, secondEpochDays, fullDaysBetween);
+    computeFullDaysBetween(firstEpochDays, secondEpochDays, fullDaysBetween, 0, pairs);
+  }
+
+  /**
+   * Computes full days between each pair of dates given as days since 1901-01-01, for the pairs of
+   * the given range of indexes only. The results are identical to calling {@link
+   * #getFullDaysBetween(Date, Date)} per pair.
+   *
+   * @param firstEpochDays From dates as days since 1901-01-01.
+   * @param secondEpochDays To dates as days since 1901-01-01, paired with the from dates by index.
+   * @param fullDaysBetween Receives the full days between each pair, by the same index.
+   * @param from First index of the range, inclusive.
+   * @param to Last index of the range, exclusive.
+   */
+  public static void getFullDaysBetween(
+      final int[] firstEpochDays,
+      final int[] secondEpochDays,
+      final int[] fullDaysBetween,
+      final int from,
+      final int to) {
+    // Perform null check
+    if (firstEpochDays == null || secondEpochDays == null || fullDaysBetween == null) {
+      throw new IllegalArgumentException("Arrays must not be null!");
+    }
+    // Perform range check
+    if (from < 0
+        || from > to
+        || to > firstEpochDays.length
+        || to > secondEpochDays.length
+        || to > fullDaysBetween.length) {
+      throw new IllegalArgumentException("Range must be within all of the arrays!");
     }
+    computeFullDaysBetween(firstEpochDays, secondEpochDays, fullDaysBetween, from, to);
+  }
 
-    // If both dates are in the same year, subtracting day of the year of older date from that of
-    // the newer date will give us days between the dates
-    if (olderDate.getYear() == newerDate.getYear()) {
-      int daysInBetween = newerDate.getDayOfTheYear() - olderDate.getDayOfTheYear();
+  /**
+   * Computes full days between each pair of dates given as yyyyMMdd values, for e.g. 19681218. The
+   * results are identical to calling {@link #getFullDaysBetween(Date, Date)} per pair.
+   *
+   * @param firstDates From dates as yyyyMMdd values.
+   * @param secondDates To dates as yyyyMMdd values, paired with the from dates by index.
+   * @param fullDaysBetween Receives the full days between each pair, by the same index.
+   * @throws IllegalArgumentException Thrown if any of the values is not a valid date, in which
+   *     case the result array is left untouched.
+   */
+  public static void getFullDaysBetweenPackedDates(
+      final int[] firstDates, final int[] secondDates, final int[] fullDaysBetween) {
+    final int pairs = getPairCount(firstDates, secondDates, fullDaysBetween);
 
-      // For full days subtract 1 from daysInBetween
-      return daysInBetween - 1;
+    // Perform validity check of every date before writing any result
+    for (int i = 0; i < pairs; i++) {
+      checkPackedDate(firstDates[i]);
+      checkPackedDate(secondDates[i]);
     }
 
-    return calculateFullDaysBetween(olderDate, newerDate);
+    // Convert to day ordinals in place, then reuse the epoch day loop
+    for (int i = 0; i < pairs; i++) {
+      fullDaysBetween[i] = toEpochDay(firstDates[i]) - toEpochDay(secondDates[i]);
+    }
+    for (int i = 0; i < pairs; i++) {
+      fullDaysBetween[i] = Math.max(Math.abs(fullDaysBetween[i]) - 1, 0);
+    }
   }
 
   /**
@@ -61,6 +149,167 @@ public class DateUtils {
    * @return True if the given integer year is a leap year.
    */
   public static boolean isLeapYear(final int year) {
+    final int index = year - FIRST_TABLE_YEAR;
+    if (index >= 0 && index < LEAP_YEARS.length) {
+      return LEAP_YEARS[index];
+    }
+    return computeLeapYear(year);
+  }
+
+  /**
+   * Returns the number of days in the given year.
+   *
+   * @param year Year as an integer value.
+   * @return 366 if the given year is a leap year, otherwise 365.
+   */
+  public static int getDaysInYear(final int year) {
+    return isLeapYear(year) ? DAYS_IN_A_LEAP_YEAR : DAYS_IN_A_NON_LEAP_YEAR;
+  }
+
+  /**
+   * Returns the number of days from January 1st of the epoch year {@link
+   * com.myapps.datecalculator.constant.Constant#EPOCH_YEAR} to January 1st of the given year.
+   *
+   * @param year Year as an integer value.
+   * @return Number of days between the start of the epoch year and the start of the given year.
+   */
+  public static int getDaysFromEpochToYear(final int year) {
+    final int index = year - FIRST_TABLE_YEAR;
+    if (index >= 0 && index < DAYS_FROM_EPOCH_TO_YEAR.length) {
+      return DAYS_FROM_EPOCH_TO_YEAR[index];
+    }
+    return computeDaysFromEpochToYear(year);
+  }
+
+  /**
+   * Returns the day of the week of a date given as days since 1901-01-01.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return The ISO day of the week, from 1 for Monday to 7 for Sunday.
+   */
+  public static int getDayOfWeek(final int epochDay) {
+    return Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK - 1, DAYS_IN_A_WEEK) + 1;
+  }
+
+  /**
+   * Returns the ISO week of the week based year of a date given as days since 1901-01-01. Weeks
+   * start on Monday, and week 1 is the week holding the first Thursday of the year, so the first
+   * days of January may fall in the last week of the previous year and the last days of December
+   * in week 1 of the next year.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return The ISO week, from 1 to 53.
+   */
+  public static int getIsoWeek(final int epochDay) {
+    final int year = getYear(epochDay);
+    final int dayOfTheYear = epochDay - getDaysFromEpochToYear(year) + 1;
+
+    // Move to the Thursday of the week, which decides the year the week belongs to, then count
+    // the weeks up to it
+    final int thursday = dayOfTheYear - getDayOfWeek(epochDay) + THURSDAY;
+    final int week = (thursday + DAYS_IN_A_WEEK - 1) / DAYS_IN_A_WEEK;
+    if (week < 1) {
+      return getIsoWeeksInYear(year - 1);
+    }
+    if (week > getIsoWeeksInYear(year)) {
+      return 1;
+    }
+    return week;
+  }
+
+  /**
+   * Returns the number of ISO weeks in the week based year of the given year.
+   *
+   * @param year Year as an integer value.
+   * @return 53 if the year starts on a Thursday, or on a Wednesday in a leap year, otherwise 52.
+   */
+  public static int getIsoWeeksInYear(final int year) {
+    final int firstDayOfWeek = getDayOfWeek(getDaysFromEpochToYear(year));
+    return firstDayOfWeek == THURSDAY || (firstDayOfWeek == THURSDAY - 1 && isLeapYear(year))
+        ? 53
+        : 52;
+  }
+
+  /**
+   * Returns the quarter of the year of a date given as days since 1901-01-01.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return The quarter, from 1 to 4.
+   */
+  public static int getQuarter(final int epochDay) {
+    final int year = getYear(epochDay);
+    final boolean isLeapYear = isLeapYear(year);
+    final int dayOfTheYear = epochDay - getDaysFromEpochToYear(year) + 1;
+
+    // Count the quarters whose first day has been reached
+    return 1
+        + (dayOfTheYear > Date.Month.APRIL.getDaysBefore(isLeapYear) ? 1 : 0)
+        + (dayOfTheYear > Date.Month.JULY.getDaysBefore(isLeapYear) ? 1 : 0)
+        + (dayOfTheYear > Date.Month.OCTOBER.getDaysBefore(isLeapYear) ? 1 : 0);
+  }
+
+  /**
+   * Computes the ISO day of the week of each date given as days since 1901-01-01.
+   *
+   * @param epochDays Dates as days since 1901-01-01.
+   * @param daysOfWeek Receives the day of the week of each date, from 1 for Monday to 7 for Sunday,
+   *     by the same index.
+   */
+  public static void getDaysOfWeek(final int[] epochDays, final int[] daysOfWeek) {
+    final int count = getCount(epochDays, daysOfWeek);
+    for (int i = 0; i < count; i++) {
+      daysOfWeek[i] = getDayOfWeek(epochDays[i]);
+    }
+  }
+
+  /**
+   * Computes the ISO week of each date given as days since 1901-01-01.
+   *
+   * @param epochDays Dates as days since 1901-01-01.
+   * @param isoWeeks Receives the ISO week of each date, from 1 to 53, by the same index.
+   */
+  public static void getIsoWeeks(final int[] epochDays, final int[] isoWeeks) {
+    final int count = getCount(epochDays, isoWeeks);
+    for (int i = 0; i < count; i++) {
+      isoWeeks[i] = getIsoWeek(epochDays[i]);
+    }
+  }
+
+  /**
+   * Computes the quarter of each date given as days since 1901-01-01.
+   *
+   * @param epochDays Dates as days since 1901-01-01.
+   * @param quarters Receives the quarter of each date, from 1 to 4, by the same index.
+   */
+  public static void getQuarters(final int[] epochDays, final int[] quarters) {
+    final int count = getCount(epochDays, quarters);
+    for (int i = 0; i < count; i++) {
+      quarters[i] = getQuarter(epochDays[i]);
+    }
+  }
+
+  private static int getYear(final int epochDay) {
+    // Start from an estimate that can only overshoot the year, then step back
+    int year = EPOCH_YEAR + Math.floorDiv(epochDay, DAYS_IN_A_NON_LEAP_YEAR);
+    while (getDaysFromEpochToYear(year) > epochDay) {
+      year--;
+    }
+    return year;
+  }
+
+  private static int getCount(final int[] epochDays, final int[] results) {
+    // Perform null check
+    if (epochDays == null || results == null) {
+      throw new IllegalArgumentException("Arrays must not be null!");
+    }
+    // Perform length check
+    if (epochDays.length > results.length) {
+      throw new IllegalArgumentException("Epoch days must fit in the result array!");
+    }
+    return epochDays.length;
+  }
+
+  private static boolean computeLeapYear(final int year) {
     // If year is not evenly divisible by 4, then it is NOT a leap year
     if (year % LEAP_YEAR_DIVIDER_4 != 0) {
       return false;
@@ -74,37 +323,63 @@ public class DateUtils {
     return year % LEAP_YEAR_DIVIDER_400 == 0;
   }
 
-  private static int calculateFullDaysBetween(final Date olderDate, final Date newerDate) {
-    int fullDaysBetween = 0;
+  private static int computeDaysFromEpochToYear(final int year) {
+    final int years = year - EPOCH_YEAR;
 
-    // Add number of days from full years between the two dates
-    fullDaysBetween += getFullDaysBetweenFullYears(olderDate, newerDate);
+    // Every year has at least 365 days, add a day for each leap year in between
+    return years * DAYS_IN_A_NON_LEAP_YEAR
+        + getLeapYearsUpTo(year - 1)
+        - getLeapYearsUpTo(EPOCH_YEAR - 1);
+  }
 
-    // Now, add full days from the older year
-    fullDaysBetween += (olderDate.getDaysThisYear() - olderDate.getDayOfTheYear());
+  private static void computeFullDaysBetween(
+      final int[] firstEpochDays,
+      final int[] secondEpochDays,
+      final int[] fullDaysBetween,
+      final int from,
+      final int to) {
+    final long startTime = DateMetrics.startTimer();
 
-    // Also add full days from the newer year
-    fullDaysBetween += (newerDate.getDayOfTheYear() - 1);
+    // Keep the loop body branch free, so the JIT can vectorise it
+    for (int i = from; i < to; i++) {
+      fullDaysBetween[i] = Math.max(Math.abs(firstEpochDays[i] - secondEpochDays[i]) - 1, 0);
+    }
 
-    return fullDaysBetween;
+    // Account for the whole range at once, instead of timing every pair
+    DateMetrics.recordFullDaysBetweenBatch(startTime, to - from);
   }
 
-  private static int getFullDaysBetweenFullYears(final Date olderDate, final Date newerDate) {
-    // Check if there are any full years in between, if not return 0
-    if (newerDate.getYear() - olderDate.getYear() <= 1) {
-      return 0;
+  private static void checkPackedDate(final int yyyyMMdd) {
+    if (!Date.isValidYyyyMMdd(yyyyMMdd)) {
+      throw new IllegalArgumentException("Date must be a valid yyyyMMdd value!");
     }
+  }
+
+  private static int toEpochDay(final int yyyyMMdd) {
+    // Only called with validated dates
+    final int year = yyyyMMdd / 10000;
+    return getDaysFromEpochToYear(year)
+        + Date.Month.fromInt(yyyyMMdd / 100 % 100).getDaysBefore(isLeapYear(year))
+        + yyyyMMdd % 100
+        - 1;
+  }
 
-    // Calculate full years in days
-    int fullYearsInDays = 0;
-    for (int year = olderDate.getYear() + 1; year < newerDate.getYear(); year++) {
-      if (isLeapYear(year)) {
-        fullYearsInDays += DAYS_IN_A_LEAP_YEAR;
-      } else {
-        fullYearsInDays += DAYS_IN_A_NON_LEAP_YEAR;
-      }
+  private static int getPairCount(
+      final int[] firstDates, final int[] secondDates, final int[] fullDaysBetween) {
+    // Perform null check
+    if (firstDates == null || secondDates == null || fullDaysBetween == null) {
+      throw new IllegalArgumentException("Arrays must not be null!");
+    }
+    // Perform length check
+    if (firstDates.length != secondDates.length || firstDates.length > fullDaysBetween.length) {
+      throw new IllegalArgumentException(
+          "Date arrays must be of the same length and fit in the result array!");
     }
+    return firstDates.length;
+  }
 
-    return fullYearsInDays;
+  private static int getLeapYearsUpTo(final int year) {
+    // Number of leap years from year 1 to the given year, both inclusive
+    return year / LEAP_YEAR_DIVIDER_4 - year / LEAP_YEAR_DIVIDER_100 + year / LEAP_YEAR_DIVIDER_400;
   }
 }
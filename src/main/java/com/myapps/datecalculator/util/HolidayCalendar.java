@@ -0,0 +1,178 @@
+package com.myapps.datecalculator.util;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable calendar of holidays, kept as a sorted array of distinct epoch days. Holidays
+ * falling on a weekend are dropped on creation, as weekends are never business days anyway. Once
+ * created, a calendar is safe to share between threads.
+ *
+ * <p>A calendar file holds one date in yyyy-MM-dd format per line. Blank lines, and lines starting
+ * with {@code #}, are skipped.
+ */
+public final class HolidayCalendar {
+
+  /** A calendar without any holidays. */
+  public static final HolidayCalendar EMPTY = new HolidayCalendar(new int[0]);
+
+  private static final char COMMENT = '#';
+
+  private final int[] epochDays;
+
+  private HolidayCalendar(final int[] epochDays) {
+    this.epochDays = epochDays;
+  }
+
+  /**
+   * Creates a calendar of the given holidays, given as days since 1901-01-01.
+   *
+   * @param epochDays Holidays as days since 1901-01-01, in any order and possibly repeated.
+   * @return A calendar of the given weekday holidays.
+   */
+  public static HolidayCalendar ofEpochDays(final int... epochDays) {
+    // Perform null check
+    if (epochDays == null) {
+      throw new IllegalArgumentException("Holidays must not be null!");
+    }
+
+    final int[] holidays = new int[epochDays.length];
+    int count = 0;
+    for (final int epochDay : epochDays) {
+      if (epochDay < 0 || epochDay >= Date.DAYS_IN_SUPPORTED_RANGE) {
+        throw new IllegalArgumentException(
+            "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!");
+      }
+      if (BusinessDayCalculator.isWeekday(epochDay)) {
+        holidays[count++] = epochDay;
+      }
+    }
+
+    // Sort and drop duplicates, so the index of a holiday is the count of holidays before it
+    Arrays.sort(holidays, 0, count);
+    int distinct = 0;
+    for (int i = 0; i < count; i++) {
+      if (distinct == 0 || holidays[distinct - 1] != holidays[i]) {
+        holidays[distinct++] = holidays[i];
+      }
+    }
+    return new HolidayCalendar(Arrays.copyOf(holidays, distinct));
+  }
+
+  /**
+   * Creates a calendar of the given holidays.
+   *
+   * @param dates Holidays, in any order and possibly repeated.
+   * @return A calendar of the given weekday holidays.
+   */
+  public static HolidayCalendar of(final Collection<Date> dates) {
+    // Perform null check
+    if (dates == null) {
+      throw new IllegalArgumentException("Holidays must not be null!");
+    }
+
+    final int[] epochDays = new int[dates.size()];
+    int count = 0;
+    for (final Date date : dates) {
+      if (date == null) {
+        throw new IllegalArgumentException("Holidays must not be null!");
+      }
+      epochDays[count++] = date.getEpochDay();
+    }
+    return ofEpochDays(epochDays);
+  }
+
+  /**
+   * Loads a calendar from a file holding one yyyy-MM-dd date per line.
+   *
+   * @param file The calendar file.
+   * @return A calendar of the weekday holidays listed in the file.
+   * @throws IOException Thrown if the file cannot be read, or a line is not a valid date.
+   */
+  public static HolidayCalendar load(final Path file) throws IOException {
+    int[] epochDays = new int[64];
+    int count = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+      int lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        line = line.trim();
+        if (line.isEmpty() || line.charAt(0) == COMMENT) {
+          continue;
+        }
+
+        final int result = DateParser.parse(line);
+        if (!DateParser.isValid(result)) {
+          throw new IOException(
+              "Invalid holiday calendar! Line "
+                  + lineNumber
+                  + ": "
+                  + DateParser.getMessage(result));
+        }
+        if (count == epochDays.length) {
+          epochDays = Arrays.copyOf(epochDays, count * 2);
+        }
+        epochDays[count++] = Date.toEpochDay(result);
+      }
+    }
+    return ofEpochDays(Arrays.copyOf(epochDays, count));
+  }
+
+  /**
+   * Returns true if the given day is a holiday of this calendar.
+   *
+   * @param epochDay A date as days since 1901-01-01.
+   * @return True if the date is one of the weekday holidays.
+   */
+  public boolean isHoliday(final int epochDay) {
+    return Arrays.binarySearch(this.epochDays, epochDay) >= 0;
+  }
+
+  /**
+   * Returns the number of holidays from the first day, inclusive, to the last day, exclusive.
+   *
+   * @param fromEpochDay First day of the range as days since 1901-01-01, inclusive.
+   * @param toEpochDay Last day of the range as days since 1901-01-01, exclusive.
+   * @return Number of holidays in the range, or 0 if the range is empty.
+   */
+  public int getHolidaysBetween(final int fromEpochDay, final int toEpochDay) {
+    if (toEpochDay <= fromEpochDay) {
+      return 0;
+    }
+    return getHolidaysBefore(toEpochDay) - getHolidaysBefore(fromEpochDay);
+  }
+
+  /**
+   * Returns the number of holidays in this calendar.
+   *
+   * @return Number of weekday holidays.
+   */
+  public int size() {
+    return this.epochDays.length;
+  }
+
+  /**
+   * Returns the holidays of this calendar in ascending order.
+   *
+   * @return A copy of the holidays as days since 1901-01-01.
+   */
+  public int[] toEpochDays() {
+    return this.epochDays.clone();
+  }
+
+  private int getHolidaysBefore(final int epochDay) {
+    // Holidays are distinct, so the insertion point is the number of holidays before the day
+    final int index = Arrays.binarySearch(this.epochDays, epochDay);
+    return index >= 0 ? index : -index - 1;
+  }
+}
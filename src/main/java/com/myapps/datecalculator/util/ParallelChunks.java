@@ -0,0 +1,64 @@
+package com.myapps.datecalculator.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs an action once per chunk of some work on a fork/join pool. The chunks are split in halves
+ * between the threads of the pool until each task runs a single chunk, so the caller decides the
+ * number of chunks, and with it the number of tasks running at once.
+ */
+public final class ParallelChunks {
+
+  private ParallelChunks() {}
+
+  /**
+   * Runs the given action for each chunk, in parallel on the given pool, and waits for all of them.
+   *
+   * @param pool Pool to run the chunks on.
+   * @param chunks Number of chunks.
+   * @param action Action to run with the index of each chunk, from 0, called from any thread.
+   */
+  public static void forEachChunk(
+      final ForkJoinPool pool, final int chunks, final IntConsumer action) {
+    // Perform null check
+    if (pool == null || action == null) {
+      throw new IllegalArgumentException("Pool and action must not be null!");
+    }
+    // Perform range check
+    if (chunks < 1) {
+      throw new IllegalArgumentException("Chunks must be more than 0!");
+    }
+    pool.invoke(new ChunkAction(action, 0, chunks));
+  }
+
+  /** Runs an action for each chunk of a range of chunks, splitting the range between threads. */
+  private static final class ChunkAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IntConsumer action;
+    private final int from;
+    private final int to;
+
+    private ChunkAction(final IntConsumer action, final int from, final int to) {
+      this.action = action;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from == 1) {
+        this.action.accept(this.from);
+        return;
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      invokeAll(
+          new ChunkAction(this.action, this.from, middle),
+          new ChunkAction(this.action, middle, this.to));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateColumnTest {
+
+  @Test
+  public void testColumnShouldConvertToAndFromDatesLosslessly() {
+    try {
+      Date[] dates = {Date.parse("1983-06-22"), Date.parse("1901-01-01"), Date.parse("2999-12-31")};
+
+      DateColumn column = DateColumn.of(Arrays.asList(dates));
+
+      assertEquals(3, column.size());
+      assertArrayEquals(dates, column.toDates());
+      assertSame(dates[0], column.get(0));
+      assertEquals(19830622, Date.toYyyyMMdd(column.getEpochDay(0)));
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testSortMinMaxAndFilterShouldWorkOnEpochDays() {
+    DateColumn column = DateColumn.ofEpochDays(30, 10, 20, 40, 0);
+    for (int epochDay = 50; epochDay < 100; epochDay++) {
+      column.addEpochDay(epochDay);
+    }
+
+    assertEquals(0, column.getMinEpochDay());
+    assertEquals(99, column.getMaxEpochDay());
+    assertArrayEquals(new int[] {30, 10, 20}, column.filterEpochDays(10, 30).toEpochDays());
+
+    column.sort();
+
+    assertArrayEquals(new int[] {0, 10, 20, 30, 40, 50}, Arrays.copyOf(column.toEpochDays(), 6));
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldReturnFullDaysForEachPairOfDates() {
+    DateColumn firstColumn = DateColumn.ofEpochDays(0, 10, 5);
+    DateColumn secondColumn = DateColumn.ofEpochDays(0, 12, 1);
+
+    assertArrayEquals(new int[] {0, 1, 3}, firstColumn.getFullDaysBetween(secondColumn));
+  }
+
+  @Test
+  public void testColumnShouldRejectEpochDaysOutsideTheSupportedRangeAndEmptyQueries() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          DateColumn.ofEpochDays(Date.DAYS_IN_SUPPORTED_RANGE);
+        });
+    assertThrows(
+        NoSuchElementException.class,
+        () -> {
+          new DateColumn().getMinEpochDay();
+        });
+  }
+
+  @Test
+  public void testCalendarFieldsShouldBeComputedForEveryDateOfTheColumn() {
+    // 1901-01-01 and 2999-12-31 were Tuesdays, the latter in week 1 of 3000, 1901-07-01 a Monday
+    DateColumn column = DateColumn.ofEpochDays(0, 401401, 181);
+    int[] daysOfWeek = new int[3];
+    int[] isoWeeks = new int[3];
+    int[] quarters = new int[3];
+
+    column.getDaysOfWeek(daysOfWeek);
+    column.getIsoWeeks(isoWeeks);
+    column.getQuarters(quarters);
+
+    assertArrayEquals(new int[] {2, 2, 1}, daysOfWeek);
+    assertArrayEquals(new int[] {1, 1, 27}, isoWeeks);
+    assertArrayEquals(new int[] {1, 4, 3}, quarters);
+    assertThrows(IllegalArgumentException.class, () -> column.getQuarters(new int[2]));
+  }
+}
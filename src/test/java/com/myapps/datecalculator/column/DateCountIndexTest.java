@@ -0,0 +1,115 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+import com.myapps.datecalculator.util.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateCountIndexTest {
+
+  @Test
+  public void testCountsShouldMatchFullDaysBetweenEveryDate() {
+    Random random = new Random(42);
+    int[] epochDays = new int[5_000];
+    for (int i = 0; i < epochDays.length; i++) {
+      // Draw from a few years so that dates repeat and sit next to each other
+      epochDays[i] = 40_000 + random.nextInt(1_000);
+    }
+    DateCountIndex index = DateCountIndex.of(DateColumn.ofEpochDays(epochDays));
+
+    assertEquals(epochDays.length, index.size());
+    for (int i = 0; i < 200; i++) {
+      Date date = Date.ofEpochDay(39_990 + random.nextInt(1_020));
+      int fullDays = random.nextInt(50);
+      long before = 0;
+      long after = 0;
+      long within = 0;
+      for (int epochDay : epochDays) {
+        int fullDaysBetween = DateUtils.getFullDaysBetween(epochDay, date.getEpochDay());
+        before += epochDay < date.getEpochDay() && fullDaysBetween >= fullDays ? 1 : 0;
+        after += epochDay > date.getEpochDay() && fullDaysBetween >= fullDays ? 1 : 0;
+        within += fullDaysBetween <= fullDays ? 1 : 0;
+      }
+      assertEquals(before, index.countFullDaysBefore(date, fullDays));
+      assertEquals(after, index.countFullDaysAfter(date, fullDays));
+      assertEquals(within, index.countWithinFullDays(date, fullDays));
+    }
+  }
+
+  @Test
+  public void testRangeCountsAndPercentilesShouldMatchTheSortedDates() {
+    Random random = new Random(42);
+    int[] epochDays = new int[10_000];
+    for (int i = 0; i < epochDays.length; i++) {
+      epochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+    }
+    DateCountIndex index = DateCountIndex.of(DateColumn.ofEpochDays(epochDays));
+    int[] sorted = epochDays.clone();
+    Arrays.sort(sorted);
+
+    for (int i = 0; i < 1_000; i++) {
+      int from = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      int to = from + random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE - from + 1);
+      long expected = Arrays.stream(epochDays).filter(d -> d >= from && d < to).count();
+      assertEquals(expected, index.count(DateRange.ofEpochDays(from, to)));
+    }
+    assertEquals(epochDays.length, index.countEpochDays(-10, Integer.MAX_VALUE));
+    assertEquals(Date.ofEpochDay(sorted[0]), index.getPercentile(0));
+    assertEquals(Date.ofEpochDay(sorted[4_999]), index.getPercentile(50));
+    assertEquals(Date.ofEpochDay(sorted[9_899]), index.getPercentile(99));
+    assertEquals(Date.ofEpochDay(sorted[9_999]), index.getPercentile(100));
+  }
+
+  @Test
+  public void testIndexShouldBeTheSameWhenBuiltInParallelOrIncrementally() {
+    Random random = new Random(42);
+    DateColumn first = new DateColumn();
+    DateColumn second = new DateColumn();
+    DateCountIndex incremental = new DateCountIndex();
+    for (int i = 0; i < 20_000; i++) {
+      int epochDay = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      (i % 3 == 0 ? first : second).addEpochDay(epochDay);
+      incremental.addEpochDay(epochDay);
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+    DateCountIndex parallel;
+    try {
+      parallel = DateCountIndex.of(List.of(first, second, new DateColumn()), pool);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertEquals(incremental.size(), parallel.size());
+    for (int percentile = 0; percentile <= 100; percentile += 5) {
+      assertEquals(incremental.getPercentile(percentile), parallel.getPercentile(percentile));
+    }
+    Date date = Date.ofEpochDay(200_000);
+    assertEquals(incremental.countFullDaysBefore(date, 30), parallel.countFullDaysBefore(date, 30));
+
+    // Dates added after the build are counted as well
+    parallel.add(Date.ofEpochDay(401401));
+    assertEquals(Date.ofEpochDay(401401), parallel.getPercentile(100));
+    assertEquals(1, parallel.countFullDaysAfter(Date.ofEpochDay(401399), 0));
+  }
+
+  @Test
+  public void testIndexShouldRejectInvalidArguments() {
+    DateCountIndex index = new DateCountIndex();
+
+    assertThrows(NoSuchElementException.class, () -> index.getPercentile(50));
+    assertThrows(IllegalArgumentException.class, () -> index.getPercentile(101));
+    assertThrows(IllegalArgumentException.class, () -> index.addEpochDay(-1));
+    assertThrows(IllegalArgumentException.class, () -> index.add(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> index.countFullDaysBefore(Date.ofEpochDay(0), -1));
+    assertEquals(0, index.countWithinFullDays(Date.ofEpochDay(0), 10));
+  }
+}
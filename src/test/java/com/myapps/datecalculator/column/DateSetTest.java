@@ -0,0 +1,98 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateSetTest {
+
+  @Test
+  public void testSetShouldMatchATreeSetOfEpochDays() {
+    Random random = new Random(42);
+    DateSet set = new DateSet();
+    TreeSet<Integer> expected = new TreeSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      int epochDay = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      assertEquals(expected.add(epochDay), set.addEpochDay(epochDay));
+    }
+
+    assertEquals(expected.size(), set.cardinality());
+    assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toEpochDays());
+    for (int i = 0; i < 1_000; i++) {
+      int from = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      int to = from + random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE - from + 1);
+      assertEquals(expected.subSet(from, to).size(), set.count(DateRange.ofEpochDays(from, to)));
+    }
+  }
+
+  @Test
+  public void testSetOperationsShouldCombineTheDatesOfBothSets() {
+    DateSet first = DateSet.ofEpochDays(0, 64, 1000, 401401);
+    DateSet second = DateSet.ofEpochDays(64, 401401, 5);
+
+    assertEquals(DateSet.ofEpochDays(0, 5, 64, 1000, 401401), first.union(second));
+    assertEquals(DateSet.ofEpochDays(64, 401401), first.intersection(second));
+    assertEquals(DateSet.ofEpochDays(0, 1000), first.andNot(second));
+    assertTrue(first.andNot(first).isEmpty());
+  }
+
+  @Test
+  public void testIterationShouldReturnCanonicalDatesInAscendingOrder() {
+    DateSet set = DateSet.ofEpochDays(401401, 3, 63, 64);
+    List<Date> dates = new ArrayList<>();
+    set.forEach(dates::add);
+
+    assertEquals(
+        List.of(
+            Date.ofEpochDay(3), Date.ofEpochDay(63), Date.ofEpochDay(64), Date.ofEpochDay(401401)),
+        dates);
+    assertSame(Date.ofEpochDay(3), dates.get(0));
+    assertEquals(64, set.nextEpochDay(64));
+    assertEquals(-1, set.nextEpochDay(401402));
+    assertTrue(set.contains(Date.ofEpochDay(63)));
+    assertFalse(set.containsEpochDay(-1));
+  }
+
+  @Test
+  public void testAddEpochDayShouldThrowIllegalArgumentExceptionWhenOutsideTheSupportedRange() {
+    DateSet set = new DateSet();
+
+    assertThrows(IllegalArgumentException.class, () -> set.addEpochDay(-1));
+    assertThrows(IllegalArgumentException.class, () -> set.addEpochDay(401402));
+  }
+
+  @Test
+  public void testConcurrentSetShouldKeepEveryDateAddedByConcurrentThreads() throws Exception {
+    ConcurrentDateSet set = new ConcurrentDateSet();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      // Threads add interleaved days, so they keep updating the same words
+      final int offset = t;
+      threads[t] =
+          new Thread(
+              () -> {
+                for (int epochDay = offset; epochDay < 100_000; epochDay += threads.length) {
+                  set.addEpochDay(epochDay);
+                }
+              });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(100_000, set.cardinality());
+    assertEquals(100_000, set.count(DateRange.ofEpochDays(0, 200_000)));
+    assertFalse(set.addEpochDay(99_999));
+    assertEquals(
+        DateSet.ofEpochDays(0, 99_999),
+        set.snapshot().intersection(DateSet.ofEpochDays(0, 99_999, 100_000)));
+  }
+}
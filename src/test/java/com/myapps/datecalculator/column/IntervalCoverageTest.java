@@ -0,0 +1,121 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.date.DateRange;
+import com.myapps.datecalculator.util.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntervalCoverageTest {
+
+  @Test
+  public void testCoverageShouldMatchNestedLoopsOverTheIntervals() {
+    Random random = new Random(42);
+    DateColumn starts = new DateColumn();
+    DateColumn ends = new DateColumn();
+    for (int i = 0; i < 500; i++) {
+      // Mix both orders, empty and single day intervals within a few years
+      int start = 40_000 + random.nextInt(1_000);
+      starts.addEpochDay(start);
+      ends.addEpochDay(Math.max(start + random.nextInt(60) - 10, 0));
+    }
+    IntervalCoverage coverage = IntervalCoverage.of(starts, ends);
+
+    int[] occupancies = new int[Date.DAYS_IN_SUPPORTED_RANGE];
+    for (int i = 0; i < starts.size(); i++) {
+      int first = Math.min(starts.getEpochDay(i), ends.getEpochDay(i));
+      int last = Math.max(starts.getEpochDay(i), ends.getEpochDay(i));
+      for (int epochDay = first + 1; epochDay < last; epochDay++) {
+        occupancies[epochDay]++;
+      }
+    }
+    assertEquals(500, coverage.size());
+    assertArrayEquals(occupancies, coverage.getOccupancies(DateRange.ofEpochDays(0, 401402)));
+    assertEquals(
+        Arrays.stream(occupancies).filter(o -> o > 0).count(), coverage.getUnionFullDays());
+    assertEquals(Arrays.stream(occupancies).max().getAsInt(), coverage.getPeakOccupancy());
+
+    for (int i = 0; i < 100; i++) {
+      Date start = Date.ofEpochDay(39_990 + random.nextInt(1_100));
+      Date end = Date.ofEpochDay(39_990 + random.nextInt(1_100));
+      long totalOverlap = 0;
+      for (int j = 0; j < starts.size(); j++) {
+        totalOverlap += IntervalCoverage.getOverlapFullDays(start, end, starts.get(j), ends.get(j));
+      }
+      int first = Math.min(start.getEpochDay(), end.getEpochDay());
+      int last = Math.max(start.getEpochDay(), end.getEpochDay());
+      int covered = 0;
+      for (int epochDay = first + 1; epochDay < last; epochDay++) {
+        covered += occupancies[epochDay] > 0 ? 1 : 0;
+      }
+      assertEquals(totalOverlap, coverage.getTotalOverlapFullDays(start, end));
+      assertEquals(covered, coverage.getCoveredFullDays(start, end));
+    }
+  }
+
+  @Test
+  public void testOverlapShouldExcludeTheDatesOfBothIntervals() {
+    Date first = Date.ofEpochDay(100);
+    Date second = Date.ofEpochDay(110);
+
+    assertEquals(
+        DateUtils.getFullDaysBetween(first, second),
+        IntervalCoverage.getOverlapFullDays(first, second, second, first));
+    assertEquals(
+        4, IntervalCoverage.getOverlapFullDays(first, second, Date.ofEpochDay(105), second));
+    assertEquals(
+        0, IntervalCoverage.getOverlapFullDays(first, second, second, Date.ofEpochDay(120)));
+    assertEquals(
+        0, IntervalCoverage.getOverlapFullDays(first, Date.ofEpochDay(101), first, second));
+  }
+
+  @Test
+  public void testCoverageShouldBeTheSameWhenBuiltInParallelOrIncrementally() {
+    Random random = new Random(42);
+    DateColumn starts = new DateColumn();
+    DateColumn ends = new DateColumn();
+    IntervalCoverage incremental = new IntervalCoverage();
+    for (int i = 0; i < 10_000; i++) {
+      int start = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      int end = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      starts.addEpochDay(start);
+      ends.addEpochDay(end);
+      incremental.addEpochDays(start, end);
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+    IntervalCoverage parallel;
+    try {
+      parallel = IntervalCoverage.of(starts, ends, pool);
+    } finally {
+      pool.shutdown();
+    }
+
+    DateRange range = DateRange.ofEpochDays(0, 401402);
+    assertArrayEquals(incremental.getOccupancies(range), parallel.getOccupancies(range));
+    assertEquals(incremental.getPeakOccupancy(), parallel.getPeakOccupancy());
+
+    // Intervals added after a query are taken into account by the next one
+    int before = parallel.getOccupancy(Date.ofEpochDay(1));
+    parallel.add(Date.ofEpochDay(0), Date.ofEpochDay(2));
+    assertEquals(before + 1, parallel.getOccupancy(Date.ofEpochDay(1)));
+    assertEquals(10_001, parallel.size());
+  }
+
+  @Test
+  public void testCoverageShouldRejectInvalidArguments() {
+    IntervalCoverage coverage = new IntervalCoverage();
+
+    assertEquals(0, coverage.getPeakOccupancy());
+    assertEquals(0, coverage.getUnionFullDays());
+    assertThrows(IllegalArgumentException.class, () -> coverage.addEpochDays(0, 401402));
+    assertThrows(IllegalArgumentException.class, () -> coverage.add(null, Date.ofEpochDay(0)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> IntervalCoverage.of(DateColumn.ofEpochDays(1, 2), DateColumn.ofEpochDays(3)));
+  }
+}
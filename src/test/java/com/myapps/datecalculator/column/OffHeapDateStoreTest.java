@@ -0,0 +1,123 @@
+package com.myapps.datecalculator.column;
+
+import com.myapps.datecalculator.date.Date;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapDateStoreTest {
+
+  @TempDir Path directory;
+
+  @Test
+  public void testMapShouldReadBackTheDatesWrittenToDisk() throws IOException {
+    OffHeapDateStore store = OffHeapDateStore.of(DateColumn.ofEpochDays(30, 10, 401401));
+    Path file = directory.resolve("dates.bin");
+
+    store.writeTo(file);
+    OffHeapDateStore mappedStore = OffHeapDateStore.map(file);
+
+    assertEquals(3, mappedStore.size());
+    assertEquals(30, mappedStore.getEpochDay(0));
+    assertEquals(401401, mappedStore.getEpochDay(2));
+    assertEquals(10, mappedStore.getMinEpochDay());
+    assertEquals(401401, mappedStore.getMaxEpochDay());
+    assertEquals(19, mappedStore.getFullDaysBetween(0, 1));
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldCompareEveryStoredDateWithTheGivenDate() {
+    OffHeapDateStore store = OffHeapDateStore.allocate(4);
+    store.addEpochDay(0);
+    store.addEpochDay(5);
+    store.add(Date.ofEpochDay(9));
+    int[] fullDaysBetween = new int[3];
+
+    store.getFullDaysBetween(Date.ofEpochDay(5), fullDaysBetween);
+
+    assertArrayEquals(new int[] {4, 0, 3}, fullDaysBetween);
+  }
+
+  @Test
+  public void testMapShouldThrowIOExceptionWhenTheHeaderIsInvalid() throws IOException {
+    Path file = directory.resolve("dates.bin");
+    OffHeapDateStore.of(DateColumn.ofEpochDays(1, 2)).writeTo(file);
+    byte[] content = Files.readAllBytes(file);
+
+    // Record a newest date beyond 2999-12-31
+    ByteBuffer.wrap(content)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(20, Date.DAYS_IN_SUPPORTED_RANGE);
+    Files.write(file, content);
+    IOException rangeException = assertThrows(IOException.class, () -> OffHeapDateStore.map(file));
+    assertTrue(rangeException.getMessage().contains("Dates must be between"));
+
+    Files.write(file, new byte[] {1, 2, 3});
+    assertThrows(IOException.class, () -> OffHeapDateStore.map(file));
+  }
+
+  @Test
+  public void testAddShouldThrowIllegalStateExceptionWhenTheStoreIsMapped() throws IOException {
+    Path file = directory.resolve("dates.bin");
+    OffHeapDateStore.of(DateColumn.ofEpochDays(1, 2)).writeTo(file);
+    byte[] content = Files.readAllBytes(file);
+
+    // Record a single date, so the mapped file has room for one more
+    ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN).putLong(8, 1);
+    Files.write(file, content);
+    OffHeapDateStore mappedStore = OffHeapDateStore.map(file);
+
+    assertEquals(2, mappedStore.getCapacity());
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> mappedStore.addEpochDay(3));
+    assertEquals("Date store is read-only!", exception.getMessage());
+  }
+
+  @Test
+  public void testMapShouldThrowIOExceptionWhenTheCountDoesNotMatchTheFileSize()
+      throws IOException {
+    Path file = directory.resolve("dates.bin");
+    OffHeapDateStore.of(DateColumn.ofEpochDays(1, 2)).writeTo(file);
+    byte[] content = Files.readAllBytes(file);
+
+    // Record more dates than the file holds, beyond what an int can count
+    ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN).putLong(8, 1L << 32);
+    Files.write(file, content);
+
+    IOException exception = assertThrows(IOException.class, () -> OffHeapDateStore.map(file));
+    assertTrue(exception.getMessage().contains("Count does not match the file size"));
+  }
+
+  @Test
+  public void testMapShouldThrowIOExceptionWhenTheFileIsLargerThan2GB() throws IOException {
+    Path file = directory.resolve("dates.bin");
+    OffHeapDateStore.of(DateColumn.ofEpochDays(1, 2)).writeTo(file);
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+      randomAccessFile.setLength(Integer.MAX_VALUE + 1L);
+    }
+
+    IOException exception = assertThrows(IOException.class, () -> OffHeapDateStore.map(file));
+    assertTrue(exception.getMessage().contains("larger than 2 GB"));
+  }
+
+  @Test
+  public void testAllocateShouldThrowIllegalArgumentExceptionWhenTheCapacityDoesNotFit() {
+    assertThrows(IllegalArgumentException.class, () -> OffHeapDateStore.allocate(-1));
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> OffHeapDateStore.allocate(OffHeapDateStore.MAX_CAPACITY + 1));
+    assertEquals(
+        "Capacity must be between 0-" + OffHeapDateStore.MAX_CAPACITY + "!",
+        exception.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> OffHeapDateStore.allocate(1 << 29));
+  }
+}
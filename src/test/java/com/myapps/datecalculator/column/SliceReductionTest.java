@@ -0,0 +1,61 @@
+package com.myapps.datecalculator.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SliceReductionTest {
+
+  @Test
+  public void testReduceShouldRecordEveryElementOnceInAtMostOneChunkPerThread() {
+    // Partitions of uneven sizes, including empty ones, so chunks start and end mid partition
+    int[] sizes = {5, 0, 17, 3, 0, 11};
+    int[][] recorded = new int[sizes.length][];
+    for (int i = 0; i < sizes.length; i++) {
+      recorded[i] = new int[sizes[i]];
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    int[][] chunks;
+    try {
+      chunks =
+          SliceReduction.reduce(
+              sizes,
+              1,
+              (partition, from, to, days) -> {
+                for (int i = from; i < to; i++) {
+                  recorded[partition][i]++;
+                  days[0]++;
+                }
+              },
+              pool,
+              2);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertEquals(4, chunks.length);
+    for (int[] partition : recorded) {
+      for (int count : partition) {
+        assertEquals(1, count);
+      }
+    }
+    assertEquals(36, SliceReduction.sum(chunks)[0]);
+  }
+
+  @Test
+  public void testReduceShouldUseASingleChunkWhenThereAreFewElements() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      int[][] chunks =
+          SliceReduction.reduce(new int[] {3, 4}, 2, (partition, from, to, days) -> {}, pool);
+
+      assertEquals(1, chunks.length);
+      assertArrayEquals(new int[2], chunks[0]);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.myapps.datecalculator.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateFormatterTest {
+
+  @Test
+  public void testFormatShouldMatchLocalDateOverTheWholeSupportedRange() {
+    LocalDate expected = LocalDate.of(1901, 1, 1);
+    byte[] bytes = new byte[DateFormatter.DATE_LENGTH];
+    for (int epochDay = 0; epochDay <= 401401; epochDay++) {
+      Date date = Date.ofEpochDay(epochDay);
+
+      DateFormatter.format(date, bytes, 0);
+
+      assertEquals(expected.toString(), new String(bytes, StandardCharsets.US_ASCII));
+      assertEquals(expected.toString(), DateFormatter.format(date));
+      expected = expected.plusDays(1);
+    }
+  }
+
+  @Test
+  public void testFormatShouldWriteAtTheOffsetAndReturnTheNextOffset() {
+    Date date = Date.ofEpochDay(30102);
+    byte[] bytes = "xx..........yy".getBytes(StandardCharsets.US_ASCII);
+    char[] chars = "xx..........yy".toCharArray();
+
+    assertEquals(12, DateFormatter.format(date, bytes, 2));
+    assertEquals(12, DateFormatter.format(date, chars, 2));
+
+    assertEquals("xx1983-06-02yy", new String(bytes, StandardCharsets.US_ASCII));
+    assertEquals("xx1983-06-02yy", new String(chars));
+  }
+
+  @Test
+  public void testFormatShouldAdvanceTheByteBufferWhetherHeapOrDirect() {
+    Date date = Date.ofEpochDay(30102);
+    ByteBuffer[] buffers = {ByteBuffer.allocate(12), ByteBuffer.allocateDirect(12)};
+    for (ByteBuffer buffer : buffers) {
+      buffer.put((byte) ',');
+
+      DateFormatter.format(date, buffer);
+
+      assertEquals(11, buffer.position());
+      byte[] bytes = new byte[11];
+      buffer.flip().get(bytes);
+      assertEquals(",1983-06-02", new String(bytes, StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testFormatShouldAppendToAnAppendable() throws IOException {
+    StringBuilder builder = new StringBuilder("from ");
+
+    DateFormatter.format(Date.ofEpochDay(30102), builder);
+
+    assertEquals("from 1983-06-02", builder.toString());
+  }
+
+  @Test
+  public void testFormatShouldThrowIllegalArgumentExceptionWhenTheBufferIsTooSmall() {
+    Date date = Date.ofEpochDay(0);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> DateFormatter.format(date, new byte[12], 3));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateFormatter.format(date, new char[10], -1));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateFormatter.format(date, ByteBuffer.allocate(9)));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateFormatter.format(null, new byte[10], 0));
+  }
+
+  @Test
+  public void testToStringShouldReturnTheSameStringOnEveryCall() {
+    Date date = Date.ofEpochDay(30102);
+
+    assertEquals("1983-06-02", date.toString());
+    assertSame(date.toString(), date.toString());
+  }
+}
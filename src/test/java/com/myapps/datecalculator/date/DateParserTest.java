@@ -0,0 +1,123 @@
+package com.myapps.datecalculator.date;
+
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateParserTest {
+
+  @Test
+  public void testParseShouldReturnYyyyMMddValueWhenAValidDateIsSupplied() {
+    assertEquals(19450215, DateParser.parse("1945-02-15"));
+    assertEquals(19450215, DateParser.parse(new StringBuilder("1945-02-15")));
+    assertEquals(19450215, DateParser.parse("xx1945-02-15".toCharArray(), 2));
+    assertEquals(
+        19450215, DateParser.parse("1983-06-02,1945-02-15".getBytes(StandardCharsets.US_ASCII), 11));
+  }
+
+  @Test
+  public void testParseShouldReturnNegativeValueWhenFormatIsInvalid() {
+    assertFalse(DateParser.isValid(DateParser.parse("1945-02-1")));
+    assertFalse(DateParser.isValid(DateParser.parse("1945-02-150")));
+    assertFalse(DateParser.isValid(DateParser.parse("1945/02/15")));
+    assertFalse(DateParser.isValid(DateParser.parse("1945-0a-15")));
+    assertFalse(DateParser.isValid(DateParser.parse("1945-02-١٥")));
+    assertFalse(DateParser.isValid(DateParser.parse("1945-02-1".toCharArray(), 0)));
+    assertFalse(
+        DateParser.isValid(
+            DateParser.parse("1945-02-15".getBytes(StandardCharsets.US_ASCII), 1)));
+  }
+
+  @Test
+  public void testParseShouldReturnInvalidFormatWhenTheOffsetIsNegative() {
+    String date = "1945-02-15";
+    byte[] bytes = date.getBytes(StandardCharsets.US_ASCII);
+
+    for (int result :
+        new int[] {
+          DateParser.parse(date, -1),
+          DateParser.parse(date.toCharArray(), -1),
+          DateParser.parse(bytes, -1),
+          DateParser.parse(ByteBuffer.wrap(bytes), Integer.MIN_VALUE)
+        }) {
+      assertEquals(DateParseFailure.INVALID_FORMAT, DateParser.getFailure(result));
+    }
+  }
+
+  @Test
+  public void testGetFailureShouldReturnTheReasonOfTheRejection() {
+    assertNull(DateParser.getFailure(DateParser.parse("1945-02-15")));
+    assertEquals(
+        DateParseFailure.INVALID_FORMAT, DateParser.getFailure(DateParser.parse("15-02-1945")));
+    assertEquals(
+        DateParseFailure.YEAR_OUT_OF_RANGE, DateParser.getFailure(DateParser.parse("1900-02-15")));
+    assertEquals(
+        DateParseFailure.MONTH_OUT_OF_RANGE, DateParser.getFailure(DateParser.parse("1945-13-15")));
+    assertEquals(
+        DateParseFailure.DAY_UNDERFLOW, DateParser.getFailure(DateParser.parse("1945-02-00")));
+    assertEquals(
+        DateParseFailure.DAY_OVERFLOW, DateParser.getFailure(DateParser.parse("1945-02-29")));
+  }
+
+  @Test
+  public void testGetFailureShouldThrowIllegalArgumentExceptionWhenTheValueIsNotAParseResult() {
+    assertThrows(IllegalArgumentException.class, () -> DateParser.getFailure(0));
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> DateParser.getFailure(-6));
+    assertEquals("Failure code must be between 1-5!", exception.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> DateParser.getFailure(-8));
+  }
+
+  @Test
+  public void testGetMessageShouldDescribeTheRejectionOnlyWhenAsked() {
+    assertNull(DateParser.getMessage(DateParser.parse("1945-02-15")));
+    assertEquals(
+        "Invalid date! Month must be between 01-12.",
+        DateParser.getMessage(DateParser.parse("1945-00-15")));
+    assertEquals(
+        "Invalid date! There cannot be more than 30 days in the month of September of year 2999",
+        DateParser.getMessage(DateParser.parse("2999-09-31")));
+  }
+
+  @Test
+  public void testRequireValidShouldThrowInvalidDateFormatExceptionWhenFormatIsInvalid() {
+    assertThrows(
+        InvalidDateFormatException.class,
+        () -> {
+          DateParser.requireValid(DateParser.parse("1945-2-15"));
+        });
+  }
+
+  @Test
+  public void testRequireValidShouldThrowInvalidDateExceptionWhenDayIsMoreThanDaysInMonth() {
+    InvalidDateException exception =
+        assertThrows(
+            InvalidDateException.class,
+            () -> {
+              DateParser.requireValid(DateParser.parse("2000-02-30".toCharArray(), 0));
+            });
+    assertTrue(
+        exception
+            .getMessage()
+            .contains(
+                "Invalid date! There cannot be more than 29 days in the month of February of year 2000"));
+  }
+
+  @Test
+  public void testDateCreationShouldSucceedWhenDateIsParsedFromBuffers() {
+    try {
+      Date date1 = new Date("1945-02-15".toCharArray(), 0);
+      Date date2 = new Date("--1945-02-15".getBytes(StandardCharsets.US_ASCII), 2);
+
+      assertEquals("1945-02-15", date1.toString());
+      assertEquals(date1, date2);
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.myapps.datecalculator.date;
+
+import com.myapps.datecalculator.util.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateRangeTest {
+
+  @Test
+  public void testStreamShouldReturnTheCanonicalDatesOfTheRangeInOrder() {
+    DateRange range = DateRange.of(Date.ofEpochDay(10), Date.ofEpochDay(13));
+
+    List<Date> dates = range.stream().collect(Collectors.toList());
+
+    assertEquals(3, range.size());
+    assertEquals(List.of(Date.ofEpochDay(10), Date.ofEpochDay(11), Date.ofEpochDay(12)), dates);
+    assertSame(Date.ofEpochDay(10), dates.get(0));
+    assertEquals("[1901-01-11..1901-01-13]", range.toString());
+  }
+
+  @Test
+  public void testParallelStreamShouldMatchTheSequentialStreamOverTheWholeSupportedRange() {
+    DateRange range = DateRange.ofEpochDays(0, Date.DAYS_IN_SUPPORTED_RANGE);
+
+    assertEquals(Date.DAYS_IN_SUPPORTED_RANGE, range.parallelStream().count());
+    assertEquals(
+        range.stream().mapToLong(Date::getEpochDay).sum(),
+        range.parallelStream().mapToLong(Date::getEpochDay).sum());
+    assertEquals(
+        range.stream().collect(Collectors.toList()),
+        range.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testSpliteratorShouldSplitIntoExactlySizedHalves() {
+    Spliterator<Date> suffix = DateRange.ofEpochDays(0, 11).spliterator();
+
+    Spliterator<Date> prefix = suffix.trySplit();
+
+    assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(5, prefix.getExactSizeIfKnown());
+    assertEquals(6, suffix.getExactSizeIfKnown());
+    assertNull(DateRange.ofEpochDays(0, 1).spliterator().trySplit());
+  }
+
+  @Test
+  public void testFullDaysBetweenShouldBeTheSizeOfDateUtilsGetFullDaysBetween() {
+    Date date1 = Date.ofEpochDay(30102);
+    Date date2 = Date.ofEpochDay(30122);
+
+    DateRange range = DateRange.fullDaysBetween(date2, date1);
+
+    assertEquals(DateUtils.getFullDaysBetween(date1, date2), range.size());
+    assertFalse(range.contains(date1));
+    assertTrue(range.contains(date1.plusDays(1)));
+    assertFalse(range.contains(date2));
+    assertTrue(DateRange.fullDaysBetween(date1, date1.plusDays(1)).isEmpty());
+    assertEquals("[]", DateRange.fullDaysBetween(date1, date1).toString());
+  }
+
+  @Test
+  public void testIteratorShouldThrowNoSuchElementExceptionWhenTheRangeIsExhausted() {
+    Iterator<Date> iterator = DateRange.ofEpochDays(5, 6).iterator();
+
+    assertEquals(Date.ofEpochDay(5), iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  public void testOfEpochDaysShouldThrowIllegalArgumentExceptionWhenRangeIsInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochDays(5, 4));
+    assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochDays(-1, 4));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DateRange.ofEpochDays(0, Date.DAYS_IN_SUPPORTED_RANGE + 1));
+  }
+}
@@ -2,9 +2,15 @@ package com.myapps.datecalculator.date;
 
 import com.myapps.datecalculator.exception.InvalidDateException;
 import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import com.myapps.datecalculator.util.DateUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DateTest {
@@ -347,6 +353,188 @@ public class DateTest {
     }
   }
 
+  @Test
+  public void testGetDayOfTheYearShouldMatchLocalDateForEveryDayOfALeapAndANonLeapYear() {
+    for (LocalDate expected = LocalDate.of(1944, 1, 1);
+        expected.getYear() < 1946;
+        expected = expected.plusDays(1)) {
+      try {
+        assertEquals(
+            expected.getDayOfYear(), new Date(expected.toString()).getDayOfTheYear());
+      } catch (InvalidDateFormatException | InvalidDateException e) {
+        fail("Possible code smell! Exception was not expected.");
+      }
+    }
+  }
+
+  @Test
+  public void testMonthFromIntShouldReturnNullWhenValueIsNotBetween1And12() {
+    assertNull(Date.Month.fromInt(0));
+    assertNull(Date.Month.fromInt(13));
+    assertEquals(Date.Month.JANUARY, Date.Month.fromInt(1));
+    assertEquals(Date.Month.DECEMBER, Date.Month.fromInt(12));
+  }
+
+  @Test
+  public void testGetEpochDayShouldReturnZeroOnJanuary011901() {
+    try {
+      Date date = new Date("1901-01-01");
+      assertEquals(0, date.getEpochDay());
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testGetEpochDayShouldMatchDaysSinceJanuary011901() {
+    try {
+      LocalDate epoch = LocalDate.of(1901, 1, 1);
+      for (String value : new String[] {"1901-12-31", "1944-02-29", "2000-03-01", "2999-12-31"}) {
+        assertEquals(
+            ChronoUnit.DAYS.between(epoch, LocalDate.parse(value)),
+            new Date(value).getEpochDay());
+      }
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testToStringShouldBeCachedOnlyForCanonicalDates() {
+    try {
+      Date canonical = Date.of(1983, 6, 2);
+      Date copy = new Date("1983-06-02");
+
+      assertSame(canonical.toString(), canonical.toString());
+      assertEquals(canonical.toString(), copy.toString());
+      assertNotSame(copy.toString(), copy.toString());
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testParseShouldReturnTheSameInstanceForEqualDates() {
+    try {
+      Date date1 = Date.parse("1945-02-15");
+      Date date2 = Date.parse("1945-02-15".toCharArray(), 0);
+      Date date3 = Date.of(1945, 2, 15);
+
+      assertSame(date1, date2);
+      assertSame(date1, date3);
+      assertEquals(new Date("1945-02-15"), date1);
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testOfShouldThrowInvalidDateExceptionWhenFieldsAreInvalid() {
+    InvalidDateException exception =
+        assertThrows(
+            InvalidDateException.class,
+            () -> {
+              Date.of(1945, 2, 29);
+            });
+    assertTrue(
+        exception
+            .getMessage()
+            .contains(
+                "Invalid date! There cannot be more than 28 days in the month of February of year 1945"));
+  }
+
+  @Test
+  public void testOfEpochDayShouldBeTheInverseOfGetEpochDayOverTheWholeSupportedRange() {
+    LocalDate expected = LocalDate.of(1901, 1, 1);
+    for (int epochDay = 0; epochDay <= 401401; epochDay++) {
+      Date date = Date.ofEpochDay(epochDay);
+
+      assertEquals(epochDay, date.getEpochDay());
+      assertEquals(expected.toString(), date.toString());
+      assertSame(date, Date.ofEpochDay(epochDay));
+      expected = expected.plusDays(1);
+    }
+  }
+
+  @Test
+  public void testOfEpochDayShouldThrowIllegalArgumentExceptionWhenOutsideTheSupportedRange() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          Date.ofEpochDay(-1);
+        });
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          Date.ofEpochDay(401402);
+        });
+  }
+
+  @Test
+  public void testPlusDaysShouldMatchLocalDateAndReturnCanonicalDates() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      int epochDay = random.nextInt(401402);
+      int days = random.nextInt(401402) - epochDay;
+      Date date = Date.ofEpochDay(epochDay);
+      LocalDate expected = LocalDate.of(1901, 1, 1).plusDays(epochDay + days);
+
+      assertEquals(expected.toString(), date.plusDays(days).toString());
+      assertSame(Date.ofEpochDay(epochDay + days), date.plusDays(days));
+      assertSame(date.plusDays(days), date.minusDays(-days));
+    }
+  }
+
+  @Test
+  public void testPlusDaysShouldThrowIllegalArgumentExceptionWhenOutsideTheSupportedRange() {
+    Date date = Date.ofEpochDay(0);
+
+    assertThrows(IllegalArgumentException.class, () -> date.minusDays(1));
+    assertThrows(IllegalArgumentException.class, () -> date.plusDays(401402));
+    assertThrows(IllegalArgumentException.class, () -> date.plusDays(Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> date.minusDays(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void testPlusMonthsShouldClampTheDayToTheEndOfTheMonthAsLocalDateDoes() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      Date date = Date.ofEpochDay(random.nextInt(401402));
+      int months = random.nextInt(2400) - 1200;
+      LocalDate expected = LocalDate.parse(date.toString()).plusMonths(months);
+      if (expected.getYear() < 1901 || expected.getYear() > 2999) {
+        continue;
+      }
+
+      assertEquals(expected.toString(), date.plusMonths(months).toString());
+    }
+  }
+
+  @Test
+  public void testPlusMonthsShouldReturnTheLastDayOfFebruaryWhenStartingFromTheEndOfAMonth() {
+    try {
+      assertEquals("2000-02-29", new Date("2000-01-31").plusMonths(1).toString());
+      assertEquals("1999-02-28", new Date("2000-03-31").plusMonths(-13).toString());
+      assertThrows(IllegalArgumentException.class, () -> new Date("2999-12-01").plusMonths(1));
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testCalendarFieldsShouldMatchLocalDateOverTheWholeSupportedRange() {
+    LocalDate expected = LocalDate.of(1901, 1, 1);
+    for (int epochDay = 0; epochDay <= 401401; epochDay++) {
+      Date date = Date.ofEpochDay(epochDay);
+
+      assertEquals(expected.getDayOfWeek(), date.getDayOfWeek());
+      assertEquals(expected.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), date.getIsoWeek());
+      assertEquals(expected.get(IsoFields.QUARTER_OF_YEAR), date.getQuarter());
+      assertEquals(expected.get(IsoFields.QUARTER_OF_YEAR), DateUtils.getQuarter(epochDay));
+      expected = expected.plusDays(1);
+    }
+  }
+
   @Test
   public void testCompareToShouldReturnZeroWhenBothDatesAreSame() {
     try {
@@ -0,0 +1,72 @@
+package com.myapps.datecalculator.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatePairCsvProcessorTest {
+
+  @Test
+  public void testProcessShouldWriteOneResultLinePerRecordInInputOrder() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    ProcessingSummary summary =
+        process("1983-06-02,1983-06-22\n1944-02-15,1945-02-16\r\n1945-02-15,1945-02-15", output);
+
+    assertEquals("19\n366\n0\n", output.toString(StandardCharsets.US_ASCII));
+    assertEquals(3, summary.getRows());
+    assertEquals(0, summary.getRejectedRows());
+  }
+
+  @Test
+  public void testProcessShouldWriteEmptyLinesAndCountRejectedRecords() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    ProcessingSummary summary =
+        process("from,to\n1983-06-02,1983-06-22\n1945-02-29,1945-03-01\n\n", output);
+
+    assertEquals("\n19\n\n\n", output.toString(StandardCharsets.US_ASCII));
+    assertEquals(4, summary.getRows());
+    assertEquals(3, summary.getRejectedRows());
+  }
+
+  @Test
+  public void testProcessShouldHandleRecordsSpanningBufferBoundaries() throws IOException {
+    StringBuilder input = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      input.append("1983-06-02,1983-06-22\n");
+      expected.append("19\n");
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    ProcessingSummary summary = process(input.toString(), output);
+
+    assertEquals(expected.toString(), output.toString(StandardCharsets.US_ASCII));
+    assertEquals(10_000, summary.getRows());
+  }
+
+  @Test
+  public void testProcessShouldRejectRecordsLongerThanTheBuffer() throws IOException {
+    String longRecord = "x".repeat(DatePairCsvProcessor.BUFFER_SIZE * 2);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    ProcessingSummary summary = process(longRecord + "\n1983-06-02,1983-06-22\n", output);
+
+    assertEquals("\n19\n", output.toString(StandardCharsets.US_ASCII));
+    assertEquals(1, summary.getRejectedRows());
+  }
+
+  private static ProcessingSummary process(String input, ByteArrayOutputStream output)
+      throws IOException {
+    return DatePairCsvProcessor.process(
+        Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII))),
+        Channels.newChannel(output));
+  }
+}
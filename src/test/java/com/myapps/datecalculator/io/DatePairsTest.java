@@ -0,0 +1,29 @@
+package com.myapps.datecalculator.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatePairsTest {
+
+  @Test
+  public void testParseShouldReturnEpochDaysOfBothDatesWhenRecordIsValid() {
+    byte[] record = "1901-01-02,1901-01-01\r".getBytes(StandardCharsets.US_ASCII);
+
+    long pair = DatePairs.parse(record, 0, record.length);
+
+    assertEquals(1, DatePairs.getFirstEpochDay(pair));
+    assertEquals(0, DatePairs.getSecondEpochDay(pair));
+    assertEquals(pair, DatePairs.parse("1901-01-02,1901-01-01"));
+  }
+
+  @Test
+  public void testParseShouldReturnRejectedWhenRecordIsNotAValidPairOfDates() {
+    assertEquals(DatePairs.REJECTED, DatePairs.parse("1901-01-02;1901-01-01"));
+    assertEquals(DatePairs.REJECTED, DatePairs.parse("1901-01-02,1901-01-0"));
+    assertEquals(DatePairs.REJECTED, DatePairs.parse("1900-01-02,1901-01-01"));
+    assertEquals(DatePairs.REJECTED, DatePairs.parse(""));
+  }
+}
@@ -0,0 +1,73 @@
+package com.myapps.datecalculator.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedDatePairReaderTest {
+
+  @TempDir Path directory;
+
+  @Test
+  public void testReadShouldPassEveryRecordInFileOrderAcrossSegments() throws IOException {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      content.append(i % 10 == 0 ? "bad record\n" : "1901-01-01,1901-01-0" + (i % 9 + 1) + "\r\n");
+    }
+    Path file = write(content.append("1901-01-05,1901-01-01").toString());
+    List<Long> pairs = new ArrayList<>();
+
+    // A segment size that is not a multiple of the record length splits records between segments
+    ProcessingSummary summary = MappedDatePairReader.read(file, 50, pairs::add);
+
+    assertEquals(101, summary.getRows());
+    assertEquals(10, summary.getRejectedRows());
+    assertEquals(101, pairs.size());
+    for (int i = 0; i < 100; i++) {
+      if (i % 10 == 0) {
+        assertEquals(DatePairs.REJECTED, pairs.get(i));
+      } else {
+        assertEquals(DatePairs.toPair(0, i % 9), pairs.get(i));
+      }
+    }
+    assertEquals(DatePairs.toPair(4, 0), pairs.get(100));
+  }
+
+  @Test
+  public void testReadShouldRejectRecordsLongerThanASegment() throws IOException {
+    Path file = write("x".repeat(200) + "\n1901-01-01,1901-01-03\n");
+    List<Long> pairs = new ArrayList<>();
+
+    ProcessingSummary summary = MappedDatePairReader.read(file, 50, pairs::add);
+
+    assertEquals(List.of(DatePairs.REJECTED, DatePairs.toPair(0, 2)), pairs);
+    assertEquals(1, summary.getRejectedRows());
+  }
+
+  @Test
+  public void testProcessShouldWriteTheSameOutputForMappedAndStreamedInput() throws IOException {
+    Path input = write("1983-06-02,1983-06-22\nbad\n1944-02-15,1945-02-16\n");
+    Path output = directory.resolve("out.csv");
+
+    try (WritableByteChannel channel =
+        Files.newByteChannel(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      DatePairCsvProcessor.process(input, channel);
+    }
+
+    assertEquals("19\n\n366\n", Files.readString(output, StandardCharsets.US_ASCII));
+  }
+
+  private Path write(String content) throws IOException {
+    return Files.writeString(directory.resolve("pairs.csv"), content, StandardCharsets.US_ASCII);
+  }
+}
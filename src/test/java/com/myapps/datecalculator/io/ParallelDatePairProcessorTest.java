@@ -0,0 +1,73 @@
+package com.myapps.datecalculator.io;
+
+import com.myapps.datecalculator.util.DateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelDatePairProcessorTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @TempDir Path directory;
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void testProcessShouldWriteTheSameBytesAsTheSequentialProcessor() throws IOException {
+    Random random = new Random(42);
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 5_000; i++) {
+      content.append(
+          random.nextInt(50) == 0
+              ? "bad record"
+              : String.format(
+                  "%04d-%02d-%02d,1983-06-02",
+                  1901 + random.nextInt(1099), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+      content.append(random.nextBoolean() ? "\n" : "\r\n");
+    }
+    Path input =
+        Files.writeString(
+            directory.resolve("pairs.csv"), content.append("1983-06-02,1983-06-22"));
+    ByteArrayOutputStream sequentialOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream parallelOutput = new ByteArrayOutputStream();
+
+    ProcessingSummary sequentialSummary =
+        DatePairCsvProcessor.process(input, Channels.newChannel(sequentialOutput));
+    ProcessingSummary parallelSummary =
+        ParallelDatePairProcessor.process(input, Channels.newChannel(parallelOutput), pool, 1000);
+
+    assertArrayEquals(sequentialOutput.toByteArray(), parallelOutput.toByteArray());
+    assertEquals(sequentialSummary.getRows(), parallelSummary.getRows());
+    assertEquals(sequentialSummary.getRejectedRows(), parallelSummary.getRejectedRows());
+    assertTrue(parallelOutput.toString(StandardCharsets.US_ASCII).endsWith("\n19\n"));
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldReturnTheSequentialResults() {
+    Random random = new Random(42);
+    int[] firstEpochDays = random.ints(300_000, 0, 401402).toArray();
+    int[] secondEpochDays = random.ints(300_000, 0, 401402).toArray();
+    int[] expected = new int[300_000];
+    int[] actual = new int[300_000];
+
+    DateUtils.getFullDaysBetween(firstEpochDays, secondEpochDays, expected);
+    ParallelDatePairProcessor.getFullDaysBetween(firstEpochDays, secondEpochDays, actual, pool);
+
+    assertArrayEquals(expected, actual);
+  }
+}
@@ -0,0 +1,36 @@
+package com.myapps.datecalculator.metrics;
+
+import com.myapps.datecalculator.date.DateParseFailure;
+import com.myapps.datecalculator.date.DateParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateMetricsTest {
+
+  @Test
+  public void testCountParseShouldCountValidDatesAndEachRejectionReason() {
+    // Parse first, enabled metrics would count these parses too
+    int valid = DateParser.parse("1983-06-02");
+    int dayOverflow = DateParser.parse("1983-02-29");
+    int invalidFormat = DateParser.parse("83-06-02");
+    DateMetrics.reset();
+
+    DateMetrics.countParse(valid);
+    DateMetrics.countParse(dayOverflow);
+    DateMetrics.countParse(dayOverflow);
+    DateMetrics.countParse(invalidFormat);
+
+    assertEquals(1, DateMetrics.getParsedCount());
+    assertEquals(2, DateMetrics.getRejectedCount(DateParseFailure.DAY_OVERFLOW));
+    assertEquals(1, DateMetrics.getRejectedCount(DateParseFailure.INVALID_FORMAT));
+    assertEquals(0, DateMetrics.getRejectedCount(DateParseFailure.YEAR_OUT_OF_RANGE));
+    assertTrue(DateMetrics.dump().contains("parse.rejected.day_overflow 2\n"));
+  }
+
+  @Test
+  public void testRecordShouldReturnTheGivenResultWhetherEnabledOrNot() {
+    assertEquals(19830602, DateMetrics.recordParse(DateMetrics.startTimer(), 19830602));
+    assertEquals(19, DateMetrics.recordFullDaysBetween(DateMetrics.startTimer(), 19));
+  }
+}
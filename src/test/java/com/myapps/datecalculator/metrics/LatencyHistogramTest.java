@@ -0,0 +1,82 @@
+package com.myapps.datecalculator.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testGetPercentileShouldBeWithinTheBucketPrecisionOfTheRecordedLatencies() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 100_000; nanos++) {
+      histogram.record(nanos);
+    }
+
+    assertEquals(100_000, histogram.getCount());
+    assertEquals(100_000, histogram.getMax());
+    assertEquals(50_000.5, histogram.getMean());
+    assertEquals(50_000, histogram.getPercentile(50), 50_000 / LatencyHistogram.SUB_BUCKETS);
+    assertEquals(99_000, histogram.getPercentile(99), 99_000 / LatencyHistogram.SUB_BUCKETS);
+    assertEquals(100_000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void testRecordTimesShouldCountTheLatencyOncePerTime() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10, 3);
+    histogram.record(40);
+
+    assertEquals(4, histogram.getCount());
+    assertEquals(40, histogram.getMax());
+    assertEquals(17.5, histogram.getMean());
+    assertEquals(10, histogram.getPercentile(75));
+    assertThrows(IllegalArgumentException.class, () -> histogram.record(10, -1));
+  }
+
+  @Test
+  public void testRecordShouldCountEveryLatencyWhenThreadsShareTheSameBucket() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 100_000; j++) {
+                  histogram.record(42);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(400_000, histogram.getCount());
+    assertEquals(42, histogram.getPercentile(100));
+    assertEquals(42, histogram.getMean());
+  }
+
+  @Test
+  public void testBucketsShouldCoverEveryValueWithoutGaps() {
+    long expectedLowestValue = 0;
+    for (int bucket = 0; bucket <= LatencyHistogram.getBucket(Long.MAX_VALUE); bucket++) {
+      assertEquals(bucket, LatencyHistogram.getBucket(expectedLowestValue));
+      assertEquals(bucket, LatencyHistogram.getBucket(LatencyHistogram.getHighestValue(bucket)));
+      expectedLowestValue = LatencyHistogram.getHighestValue(bucket) + 1;
+    }
+    assertEquals(Long.MIN_VALUE, expectedLowestValue);
+  }
+
+  @Test
+  public void testResetShouldClearTheRecordedLatencies() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(42);
+
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(99));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+  }
+}
@@ -0,0 +1,245 @@
+package com.myapps.datecalculator.server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateCalculatorServerTest {
+
+  private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+  private static DateCalculatorServer server;
+
+  @BeforeAll
+  public static void startServer() throws IOException {
+    server = DateCalculatorServer.start(0);
+  }
+
+  @AfterAll
+  public static void stopServer() {
+    server.close();
+  }
+
+  @Test
+  public void testGetShouldReturnFullDaysWhenBothDatesAreValid() throws Exception {
+    HttpResponse<String> response = get("?from=1983-06-22&to=1983-06-02");
+
+    assertEquals(200, response.statusCode());
+    assertEquals("19", response.body());
+  }
+
+  @Test
+  public void testGetShouldReturnBadRequestWhenADateIsInvalid() throws Exception {
+    HttpResponse<String> response = get("?from=1983-06-02&to=1983-02-29");
+
+    assertEquals(400, response.statusCode());
+    assertEquals(
+        "Invalid date! There cannot be more than 28 days in the month of February of year 1983",
+        response.body());
+  }
+
+  @Test
+  public void testGetShouldReturnBadRequestWhenADateIsMissing() throws Exception {
+    assertEquals(400, get("?from=1983-06-02").statusCode());
+  }
+
+  @Test
+  public void testGetShouldReturnBadRequestWhenTheQueryIsMalformed() throws Exception {
+    // HttpClient refuses to send a malformed escape, so write the request line by hand
+    try (Socket socket = new Socket("localhost", server.getPort())) {
+      socket
+          .getOutputStream()
+          .write(
+              ("GET "
+                      + DateCalculatorServer.FULL_DAYS_PATH
+                      + "?from=%zz&to=1983-06-02 HTTP/1.1\r\n"
+                      + "Host: localhost\r\nConnection: close\r\n\r\n")
+                  .getBytes(StandardCharsets.US_ASCII));
+      String response =
+          new String(socket.getInputStream().readAllBytes(), StandardCharsets.US_ASCII);
+
+      assertTrue(response.startsWith("HTTP/1.1 400 "), response);
+    }
+  }
+
+  @Test
+  public void testPostShouldStreamOneResultLinePerPair() throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(uri(""))
+            .POST(
+                HttpRequest.BodyPublishers.ofString(
+                    "1983-06-02,1983-06-22\n1945-02-29,1945-03-01\n1944-02-15,1945-02-16\n"))
+            .build();
+
+    HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+
+    assertEquals(200, response.statusCode());
+    assertEquals("19\n\n366\n", response.body());
+  }
+
+  @Test
+  public void testOtherMethodsShouldNotBeAllowed() throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(uri("")).DELETE().build();
+
+    assertEquals(405, CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+  }
+
+  @Test
+  public void testUnexpectedFailureShouldReturnServerErrorWhenHeadersAreNotSent() throws Exception {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    FailingExchange exchange = new FailingExchange(body);
+
+    DateCalculatorServer.handleFullDays(exchange);
+
+    assertEquals(500, exchange.getResponseCode());
+    assertEquals("Internal server error!", body.toString(StandardCharsets.UTF_8));
+    assertTrue(exchange.closed);
+  }
+
+  @Test
+  public void testUnexpectedFailureShouldCloseTheResponseWhenHeadersAreSent() throws Exception {
+    FailingExchange exchange =
+        new FailingExchange(
+            new ByteArrayOutputStream() {
+              @Override
+              public void write(byte[] b, int off, int len) {
+                throw new IllegalStateException("Failed writing the body");
+              }
+            });
+    exchange.failures = 0;
+
+    DateCalculatorServer.handleFullDays(exchange);
+
+    assertEquals(200, exchange.getResponseCode());
+    assertTrue(exchange.closed);
+  }
+
+  private static HttpResponse<String> get(String query) throws Exception {
+    return CLIENT.send(
+        HttpRequest.newBuilder(uri(query)).GET().build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static URI uri(String query) {
+    return URI.create(
+        "http://localhost:" + server.getPort() + DateCalculatorServer.FULL_DAYS_PATH + query);
+  }
+
+  /** A GET exchange failing on its first read of the request URI, recording the response. */
+  private static final class FailingExchange extends HttpExchange {
+
+    private final Headers responseHeaders = new Headers();
+    private final OutputStream responseBody;
+    private int failures = 1;
+    private int responseCode = -1;
+    private boolean closed;
+
+    private FailingExchange(OutputStream responseBody) {
+      this.responseBody = responseBody;
+    }
+
+    @Override
+    public Headers getRequestHeaders() {
+      return new Headers();
+    }
+
+    @Override
+    public Headers getResponseHeaders() {
+      return this.responseHeaders;
+    }
+
+    @Override
+    public URI getRequestURI() {
+      if (this.failures > 0) {
+        this.failures--;
+        throw new IllegalStateException("Failed reading the request URI");
+      }
+      return URI.create(DateCalculatorServer.FULL_DAYS_PATH + "?from=1983-06-02&to=1983-06-22");
+    }
+
+    @Override
+    public String getRequestMethod() {
+      return "GET";
+    }
+
+    @Override
+    public HttpContext getHttpContext() {
+      return null;
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+
+    @Override
+    public InputStream getRequestBody() {
+      return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public OutputStream getResponseBody() {
+      return this.responseBody;
+    }
+
+    @Override
+    public void sendResponseHeaders(int responseCode, long responseLength) {
+      assertEquals(-1, this.responseCode, "Headers must be sent once");
+      this.responseCode = responseCode;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+      return null;
+    }
+
+    @Override
+    public int getResponseCode() {
+      return this.responseCode;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+      return null;
+    }
+
+    @Override
+    public String getProtocol() {
+      return "HTTP/1.1";
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      return null;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {}
+
+    @Override
+    public void setStreams(InputStream input, OutputStream output) {}
+
+    @Override
+    public HttpPrincipal getPrincipal() {
+      return null;
+    }
+  }
+}
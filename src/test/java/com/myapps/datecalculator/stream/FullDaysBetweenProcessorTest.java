@@ -0,0 +1,222 @@
+package com.myapps.datecalculator.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FullDaysBetweenProcessorTest {
+
+  @Test
+  public void testProcessorShouldPublishResultsByRecordIndexAndRejectedRecordsApart()
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      FullDaysBetweenProcessor processor = new FullDaysBetweenProcessor(executor, 4, 2);
+      Collector<FullDaysBatch> results = new Collector<>();
+      Collector<RejectedRecord> rejectedRecords = new Collector<>();
+      processor.subscribe(results);
+      processor.getRejectedRecords().subscribe(rejectedRecords);
+
+      try (SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>()) {
+        upstream.subscribe(processor);
+        for (int i = 0; i < 10; i++) {
+          // Every third record is rejected
+          upstream.submit(
+              i % 3 == 2 ? "1983-02-29,1983-06-22" : "1983-06-02,1983-06-" + (10 + i));
+        }
+      }
+
+      results.completion.get(10, TimeUnit.SECONDS);
+      rejectedRecords.completion.get(10, TimeUnit.SECONDS);
+      assertEquals(3, results.items.size());
+      assertEquals(0, results.items.get(0).getFirstRecordIndex());
+      assertArrayEquals(new int[] {7, 8, -1, 10}, results.items.get(0).getFullDaysBetween());
+      assertEquals(4, results.items.get(1).getFirstRecordIndex());
+      assertArrayEquals(new int[] {11, -1, 13, 14}, results.items.get(1).getFullDaysBetween());
+      assertEquals(8, results.items.get(2).getFirstRecordIndex());
+      assertArrayEquals(new int[] {-1, 16}, results.items.get(2).getFullDaysBetween());
+      assertEquals(3, rejectedRecords.items.size());
+      assertEquals(2, rejectedRecords.items.get(0).getIndex());
+      assertEquals(8, rejectedRecords.items.get(2).getIndex());
+      assertEquals("1983-02-29,1983-06-22", rejectedRecords.items.get(1).getRecord());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testProcessorShouldNotStallWhenRunOnASingleThread() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      FullDaysBetweenProcessor processor = new FullDaysBetweenProcessor(executor, 4, 1);
+      CompletableFuture<Flow.Subscription> subscription = new CompletableFuture<>();
+      AtomicLong results = new AtomicLong();
+      CompletableFuture<Void> completion = new CompletableFuture<>();
+      processor.subscribe(
+          new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription s) {
+              subscription.complete(s);
+            }
+
+            @Override
+            public void onNext(final FullDaysBatch batch) {
+              results.addAndGet(batch.getFullDaysBetween().length);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+              completion.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+              completion.complete(null);
+            }
+          });
+      // Nobody reads the rejected records, they must not hold back the results
+      processor.getRejectedRecords().subscribe(new Collector<>(0));
+
+      try (SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>()) {
+        upstream.subscribe(processor);
+        // The subscriber asks for batches later, from its own thread
+        Thread requester =
+            new Thread(
+                () -> {
+                  try {
+                    while (!completion.isDone()) {
+                      subscription.get().request(1);
+                      Thread.sleep(1);
+                    }
+                  } catch (final Exception e) {
+                    completion.completeExceptionally(e);
+                  }
+                });
+        requester.start();
+        for (int i = 0; i < 2_000; i++) {
+          upstream.submit(i % 10 == 0 ? "invalid" : "1983-06-02,1983-06-22");
+        }
+      }
+
+      completion.get(30, TimeUnit.SECONDS);
+      assertEquals(2_000, results.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testProcessorShouldHoldBackUpstreamWhenTheSubscriberRequestsNothing()
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      FullDaysBetweenProcessor processor = new FullDaysBetweenProcessor(executor, 10, 2);
+      processor.subscribe(new Collector<>(0));
+
+      AtomicLong requested = new AtomicLong();
+      processor.onSubscribe(
+          new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+              // Deliver the requested records right away, upstream never runs dry
+              requested.addAndGet(n);
+              for (long i = 0; i < n; i++) {
+                processor.onNext("1983-06-02,1983-06-22");
+              }
+            }
+
+            @Override
+            public void cancel() {}
+          });
+
+      // Two batches wait for the subscriber, and nothing more is requested
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (requested.get() < 20 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      Thread.sleep(200);
+      assertEquals(20, requested.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testProcessorShouldRejectASecondSubscriber() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      FullDaysBetweenProcessor processor = new FullDaysBetweenProcessor(executor, 4, 1);
+      processor.subscribe(new Collector<>());
+      Collector<FullDaysBatch> second = new Collector<>();
+      processor.subscribe(second);
+
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> second.completion.get(10, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof IllegalStateException);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testProcessorShouldRejectInvalidArguments() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThrows(
+          IllegalArgumentException.class, () -> new FullDaysBetweenProcessor(null, 1, 1));
+      assertThrows(
+          IllegalArgumentException.class, () -> new FullDaysBetweenProcessor(executor, 0, 1));
+      assertThrows(
+          IllegalArgumentException.class, () -> new FullDaysBetweenProcessor(executor, 1, 0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static class Collector<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new ArrayList<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final long demand;
+
+    Collector() {
+      this(Long.MAX_VALUE);
+    }
+
+    Collector(final long demand) {
+      this.demand = demand;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      if (demand > 0) {
+        subscription.request(demand);
+      }
+    }
+
+    @Override
+    public void onNext(final T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      completion.complete(null);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.myapps.datecalculator.util;
+
+import com.myapps.datecalculator.date.Date;
+import com.myapps.datecalculator.exception.InvalidDateException;
+import com.myapps.datecalculator.exception.InvalidDateFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BusinessDayCalculatorTest {
+
+  private static final LocalDate EPOCH = LocalDate.of(1901, 1, 1);
+
+  @Test
+  public void testGetFullBusinessDaysBetweenShouldExcludeWeekendsAndHolidays() {
+    try {
+      // 1983-06-02 was a Thursday, 1983-06-13 a Monday
+      Date date1 = new Date("1983-06-02");
+      Date date2 = new Date("1983-06-22");
+      BusinessDayCalculator weekdays = new BusinessDayCalculator(HolidayCalendar.EMPTY);
+      BusinessDayCalculator calculator =
+          new BusinessDayCalculator(
+              HolidayCalendar.of(List.of(new Date("1983-06-13"), new Date("1983-06-18"))));
+
+      assertEquals(13, weekdays.getFullBusinessDaysBetween(date1, date2));
+      assertEquals(12, calculator.getFullBusinessDaysBetween(date1, date2));
+      assertEquals(12, calculator.getFullBusinessDaysBetween(date2, date1));
+      assertFalse(calculator.isBusinessDay(new Date("1983-06-13")));
+      assertTrue(calculator.isBusinessDay(date1));
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testGetFullBusinessDaysBetweenShouldMatchCountingDayByDay() {
+    Random random = new Random(42);
+    int[] holidays = new int[2_000];
+    for (int i = 0; i < holidays.length; i++) {
+      holidays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+    }
+    HolidayCalendar calendar = HolidayCalendar.ofEpochDays(holidays);
+    BusinessDayCalculator calculator = new BusinessDayCalculator(calendar);
+
+    for (int i = 0; i < 1_000; i++) {
+      int firstEpochDay = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+      int secondEpochDay =
+          Math.min(firstEpochDay + random.nextInt(4_000), Date.DAYS_IN_SUPPORTED_RANGE - 1);
+
+      int expected = 0;
+      for (int day = firstEpochDay + 1; day < secondEpochDay; day++) {
+        DayOfWeek dayOfWeek = EPOCH.plusDays(day).getDayOfWeek();
+        if (dayOfWeek != DayOfWeek.SATURDAY
+            && dayOfWeek != DayOfWeek.SUNDAY
+            && !calendar.isHoliday(day)) {
+          expected++;
+        }
+      }
+      assertEquals(expected, calculator.getFullBusinessDaysBetween(firstEpochDay, secondEpochDay));
+    }
+  }
+
+  @Test
+  public void testGetFullBusinessDaysBetweenShouldReturn0WhenDatesAreAdjacentOrTheSame() {
+    BusinessDayCalculator calculator = new BusinessDayCalculator(HolidayCalendar.EMPTY);
+
+    assertEquals(0, calculator.getFullBusinessDaysBetween(100, 100));
+    assertEquals(0, calculator.getFullBusinessDaysBetween(100, 101));
+  }
+
+  @Test
+  public void testGetFullBusinessDaysBetweenShouldThrowIllegalArgumentExceptionWhenOutOfRange() {
+    BusinessDayCalculator calculator = new BusinessDayCalculator(HolidayCalendar.EMPTY);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> calculator.getFullBusinessDaysBetween(-10, 100));
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> calculator.getFullBusinessDaysBetween(100, Date.DAYS_IN_SUPPORTED_RANGE));
+    assertEquals(
+        "Epoch day must be between 0-" + (Date.DAYS_IN_SUPPORTED_RANGE - 1) + "!",
+        exception.getMessage());
+  }
+
+  @Test
+  public void testCalculatorCreationShouldThrowIllegalArgumentExceptionWhenCalendarIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new BusinessDayCalculator(null));
+  }
+}
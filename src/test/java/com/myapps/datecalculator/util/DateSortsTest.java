@@ -0,0 +1,113 @@
+package com.myapps.datecalculator.util;
+
+import com.myapps.datecalculator.date.Date;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateSortsTest {
+
+  @Test
+  public void testSortsShouldMatchArraysSortForSmallAndLargeArrays() {
+    Random random = new Random(42);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int length : new int[] {0, 1, 100, 5_000, 300_000}) {
+        int[] epochDays = new int[length];
+        Date[] dates = new Date[length];
+        for (int i = 0; i < length; i++) {
+          epochDays[i] = random.nextInt(Date.DAYS_IN_SUPPORTED_RANGE);
+          dates[i] = Date.ofEpochDay(epochDays[i]);
+        }
+        int[] expectedEpochDays = epochDays.clone();
+        Arrays.sort(expectedEpochDays);
+        Date[] expectedDates = dates.clone();
+        Arrays.sort(expectedDates);
+
+        int[] sortedEpochDays = epochDays.clone();
+        DateSorts.sortEpochDays(sortedEpochDays);
+        assertArrayEquals(expectedEpochDays, sortedEpochDays);
+        sortedEpochDays = epochDays.clone();
+        DateSorts.parallelSortEpochDays(sortedEpochDays, pool);
+        assertArrayEquals(expectedEpochDays, sortedEpochDays);
+
+        Date[] sortedDates = dates.clone();
+        DateSorts.sort(sortedDates);
+        assertArrayEquals(expectedDates, sortedDates);
+        sortedDates = dates.clone();
+        DateSorts.parallelSort(sortedDates, pool);
+        assertArrayEquals(expectedDates, sortedDates);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testRecordSortsShouldBeStableForEqualDates() {
+    // Few distinct dates, so that most records share their date with others
+    Random random = new Random(42);
+    Booking[] bookings = new Booking[200_000];
+    for (int i = 0; i < bookings.length; i++) {
+      bookings[i] = new Booking(i, Date.ofEpochDay(random.nextInt(50) * 4099));
+    }
+    Booking[] expected = bookings.clone();
+    Arrays.sort(expected, Comparator.comparing(Booking::getCheckIn));
+
+    Booking[] sorted = bookings.clone();
+    DateSorts.sort(sorted, Booking::getCheckIn);
+    assertArrayEquals(expected, sorted);
+
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      sorted = bookings.clone();
+      DateSorts.parallelSort(sorted, Booking::getCheckIn, pool);
+      assertArrayEquals(expected, sorted);
+    } finally {
+      pool.shutdown();
+    }
+
+    List<Booking> list = new LinkedList<>(Arrays.asList(bookings).subList(0, 500));
+    DateSorts.sort(list, Booking::getCheckIn);
+    List<Booking> expectedList = new ArrayList<>(Arrays.asList(bookings).subList(0, 500));
+    expectedList.sort(Comparator.comparing(Booking::getCheckIn));
+    assertEquals(expectedList, list);
+  }
+
+  @Test
+  public void testSortsShouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> DateSorts.sortEpochDays(new int[] {-1}));
+    assertThrows(IllegalArgumentException.class, () -> DateSorts.sort(new Date[] {null}));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateSorts.sort(new Booking[0], null));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateSorts.parallelSort(new Date[0], null));
+  }
+
+  private static final class Booking {
+    private final int id;
+    private final Date checkIn;
+
+    private Booking(final int id, final Date checkIn) {
+      this.id = id;
+      this.checkIn = checkIn;
+    }
+
+    private Date getCheckIn() {
+      return checkIn;
+    }
+
+    @Override
+    public String toString() {
+      return id + "@" + checkIn;
+    }
+  }
+}
@@ -5,6 +5,12 @@ import com.myapps.datecalculator.exception.InvalidDateException;
 import com.myapps.datecalculator.exception.InvalidDateFormatException;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DateUtilsTest {
@@ -128,4 +134,163 @@ public class DateUtilsTest {
       fail("Possible code smell! Exception was not expected.");
     }
   }
+
+  @Test
+  public void testGetFullDaysBetweenShouldReturn401400WhenDatesCoverTheWholeSupportedRange() {
+    try {
+      Date date1 = new Date("1901-01-01");
+      Date date2 = new Date("2999-12-31");
+
+      assertEquals(401400, DateUtils.getFullDaysBetween(date1, date2));
+      assertEquals(401400, DateUtils.getFullDaysBetween(date2, date1));
+    } catch (InvalidDateFormatException | InvalidDateException e) {
+      fail("Possible code smell! Exception was not expected.");
+    }
+  }
+
+  @Test
+  public void testGetDaysFromEpochToYearShouldCountLeapYearsInBetween() {
+    assertEquals(0, DateUtils.getDaysFromEpochToYear(1901));
+    assertEquals(365, DateUtils.getDaysFromEpochToYear(1902));
+    assertEquals(36159, DateUtils.getDaysFromEpochToYear(2000));
+    assertEquals(36525, DateUtils.getDaysFromEpochToYear(2001));
+  }
+
+  @Test
+  public void testYearLookupsShouldMatchTheCalendarInsideAndOutsideTheSupportedRange() {
+    LocalDate epoch = LocalDate.of(1901, 1, 1);
+    for (int year = 1500; year <= 3500; year++) {
+      assertEquals(Year.isLeap(year), DateUtils.isLeapYear(year));
+      assertEquals(Year.of(year).length(), DateUtils.getDaysInYear(year));
+      assertEquals(
+          ChronoUnit.DAYS.between(epoch, LocalDate.of(year, 1, 1)),
+          DateUtils.getDaysFromEpochToYear(year));
+    }
+    assertFalse(DateUtils.isLeapYear(-100));
+    assertTrue(DateUtils.isLeapYear(-400));
+  }
+
+  @Test
+  public void testBatchCalendarFieldsShouldMatchTheScalarResults() {
+    Random random = new Random(42);
+    int[] epochDays = new int[1000];
+    for (int i = 0; i < epochDays.length; i++) {
+      epochDays[i] = random.nextInt(401402);
+    }
+    int[] daysOfWeek = new int[1000];
+    int[] isoWeeks = new int[1000];
+    int[] quarters = new int[1000];
+
+    DateUtils.getDaysOfWeek(epochDays, daysOfWeek);
+    DateUtils.getIsoWeeks(epochDays, isoWeeks);
+    DateUtils.getQuarters(epochDays, quarters);
+
+    for (int i = 0; i < epochDays.length; i++) {
+      Date date = Date.ofEpochDay(epochDays[i]);
+      assertEquals(date.getDayOfWeek().getValue(), daysOfWeek[i]);
+      assertEquals(date.getIsoWeek(), isoWeeks[i]);
+      assertEquals(date.getQuarter(), quarters[i]);
+    }
+    assertThrows(
+        IllegalArgumentException.class, () -> DateUtils.getDaysOfWeek(epochDays, new int[1]));
+  }
+
+  @Test
+  public void testGetIsoWeeksInYearShouldMatchTheCalendar() {
+    for (int year = 1901; year <= 2999; year++) {
+      assertEquals(
+          LocalDate.of(year, 12, 28).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+          DateUtils.getIsoWeeksInYear(year));
+    }
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldReturnTheScalarResultsWhenArraysOfEpochDaysAreSupplied() {
+    Random random = new Random(42);
+    int[] firstEpochDays = new int[1000];
+    int[] secondEpochDays = new int[1000];
+    int[] fullDaysBetween = new int[1000];
+    for (int i = 0; i < firstEpochDays.length; i++) {
+      firstEpochDays[i] = random.nextInt(401402);
+      secondEpochDays[i] = i % 10 == 0 ? firstEpochDays[i] : random.nextInt(401402);
+    }
+
+    DateUtils.getFullDaysBetween(firstEpochDays, secondEpochDays, fullDaysBetween);
+
+    for (int i = 0; i < firstEpochDays.length; i++) {
+      assertEquals(
+          DateUtils.getFullDaysBetween(
+              Date.ofEpochDay(firstEpochDays[i]), Date.ofEpochDay(secondEpochDays[i])),
+          fullDaysBetween[i]);
+    }
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldOnlyComputeTheGivenRangeOfPairs() {
+    int[] fullDaysBetween = {-1, -1, -1, -1};
+
+    DateUtils.getFullDaysBetween(
+        new int[] {0, 10, 20, 30}, new int[] {5, 0, 20, 40}, fullDaysBetween, 1, 3);
+
+    assertArrayEquals(new int[] {-1, 9, 0, -1}, fullDaysBetween);
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldThrowIllegalArgumentExceptionWhenTheRangeIsOutOfBounds() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DateUtils.getFullDaysBetween(new int[2], new int[2], new int[1], 0, 2));
+    assertEquals("Range must be within all of the arrays!", exception.getMessage());
+  }
+
+  @Test
+  public void testGetFullDaysBetweenPackedDatesShouldReturnTheScalarResults() {
+    int[] fullDaysBetween = new int[3];
+
+    DateUtils.getFullDaysBetweenPackedDates(
+        new int[] {19450215, 19440215, 19010101},
+        new int[] {19460216, 19450216, 29991231},
+        fullDaysBetween);
+
+    assertArrayEquals(new int[] {365, 366, 401400}, fullDaysBetween);
+  }
+
+  @Test
+  public void testGetFullDaysBetweenPackedDatesShouldThrowIllegalArgumentExceptionWhenADateIsInvalid() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> {
+              DateUtils.getFullDaysBetweenPackedDates(
+                  new int[] {19450229}, new int[] {19450301}, new int[1]);
+            });
+    assertTrue(exception.getMessage().contains("Date must be a valid yyyyMMdd value!"));
+  }
+
+  @Test
+  public void testGetFullDaysBetweenPackedDatesShouldLeaveTheResultsUntouchedWhenADateIsInvalid() {
+    int[] fullDaysBetween = {-1, -1};
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            DateUtils.getFullDaysBetweenPackedDates(
+                new int[] {19450215, 19450229}, new int[] {19460216, 19450301}, fullDaysBetween));
+    assertArrayEquals(new int[] {-1, -1}, fullDaysBetween);
+  }
+
+  @Test
+  public void testGetFullDaysBetweenShouldThrowIllegalArgumentExceptionWhenArrayLengthsDiffer() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> {
+              DateUtils.getFullDaysBetween(new int[2], new int[3], new int[3]);
+            });
+    assertTrue(
+        exception
+            .getMessage()
+            .contains("Date arrays must be of the same length and fit in the result array!"));
+  }
 }
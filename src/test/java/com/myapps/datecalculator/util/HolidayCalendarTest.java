@@ -0,0 +1,44 @@
+package com.myapps.datecalculator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCalendarTest {
+
+  @TempDir Path directory;
+
+  @Test
+  public void testLoadShouldKeepDistinctWeekdayHolidaysInOrder() throws IOException {
+    Path file = directory.resolve("holidays.txt");
+    Files.writeString(file, "# Holidays\n1983-06-13\n\n1983-06-03\n1983-06-18\n1983-06-13\n");
+
+    HolidayCalendar calendar = HolidayCalendar.load(file);
+
+    // 1983-06-18 was a Saturday
+    assertEquals(2, calendar.size());
+    assertArrayEquals(new int[] {30103, 30113}, calendar.toEpochDays());
+    assertTrue(calendar.isHoliday(30113));
+    assertEquals(1, calendar.getHolidaysBetween(30103, 30113));
+    assertEquals(0, calendar.getHolidaysBetween(30113, 30103));
+  }
+
+  @Test
+  public void testLoadShouldThrowIOExceptionWhenALineIsNotAValidDate() throws IOException {
+    Path file = directory.resolve("holidays.txt");
+    Files.writeString(file, "1983-06-13\n1983-02-29\n");
+
+    IOException exception = assertThrows(IOException.class, () -> HolidayCalendar.load(file));
+    assertTrue(exception.getMessage().startsWith("Invalid holiday calendar! Line 2"));
+  }
+
+  @Test
+  public void testOfEpochDaysShouldThrowIllegalArgumentExceptionWhenDayIsOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> HolidayCalendar.ofEpochDays(-1));
+  }
+}
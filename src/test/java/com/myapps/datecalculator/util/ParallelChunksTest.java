@@ -0,0 +1,33 @@
+package com.myapps.datecalculator.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelChunksTest {
+
+  @Test
+  public void testForEachChunkShouldRunTheActionOncePerChunk() {
+    AtomicIntegerArray runs = new AtomicIntegerArray(7);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ParallelChunks.forEachChunk(pool, runs.length(), runs::incrementAndGet);
+    } finally {
+      pool.shutdown();
+    }
+
+    for (int chunk = 0; chunk < runs.length(); chunk++) {
+      assertEquals(1, runs.get(chunk));
+    }
+  }
+
+  @Test
+  public void testForEachChunkShouldThrowIllegalArgumentExceptionWhenThereAreNoChunks() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ParallelChunks.forEachChunk(ForkJoinPool.commonPool(), 0, chunk -> {}));
+  }
+}